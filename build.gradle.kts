@@ -166,6 +166,8 @@ tasks.withType<ShadowJar> {
     exclude("generate-recipes")
     exclude("scripts/")
     exclude("v1-v2-service-mapping-diffs.csv")
+    // Left behind next to the type tables if a `mergeTypeTable` run is killed before it moves the result into place
+    exclude("**/*.tmp")
 }
 
 tasks {
@@ -180,14 +182,75 @@ tasks {
         )
         finalizedBy("licenseFormat")
     }
+    val generateCamelAggregation by registering(JavaExec::class) {
+        group = "generate"
+        description = "Generate Camel migration aggregation Recipes from the camel-upgrade-recipes jar."
+        mainClass = "org.openrewrite.recipe.camel.internal.AggregateCamelUpdates"
+        classpath = sourceSets.getByName("test").runtimeClasspath
+        args("src/main/resources/META-INF/rewrite/camel-consolidated.yml")
+        finalizedBy("licenseFormat")
+    }
     val generatePicnicAggregation by registering(JavaExec::class) {
         group = "generate"
         description = "Generate Picnic Refaster rules aggregation recipe from the error-prone-contrib jar."
         mainClass = "org.openrewrite.recipe.picnic.internal.GeneratePicnicAggregation"
         classpath = sourceSets.getByName("test").runtimeClasspath
-        args("src/main/resources/META-INF/rewrite/picnic.yml")
+        args(
+            "src/main/resources/META-INF/rewrite/picnic.yml",
+            "src/test/resources/picnic-rule-costs.tsv",
+            // Budget in ns/file for `AllRefasterRulesFast`, e.g. `-PpicnicCostBudget=20000`
+            findProperty("picnicCostBudget") ?: "50000"
+        )
         finalizedBy("licenseFormat")
     }
+    val benchmarkPicnicRules by registering(JavaExec::class) {
+        group = "generate"
+        description = "Measure the cost of each Picnic Refaster rule collection, to select those for `AllRefasterRulesFast`."
+        mainClass = "org.openrewrite.recipe.picnic.internal.PicnicRuleCosts"
+        classpath = sourceSets.getByName("test").runtimeClasspath
+        maxHeapSize = "4g"
+        args(
+            "src/test/resources/picnic-rule-costs.tsv",
+            // e.g. `-PrefasterTestInputs=../error-prone-support/error-prone-contrib/src/test/resources/tech/picnic/errorprone/refasterrules`
+            findProperty("refasterTestInputs") ?: ""
+        )
+        finalizedBy(generatePicnicAggregation)
+    }
+    val benchmarkAggregates by registering(JavaExec::class) {
+        group = "verification"
+        description = "Run the bundled aggregates over a generated corpus, reporting files/sec, peak heap and GC time."
+        mainClass = "org.openrewrite.recipe.internal.AggregateThroughput"
+        classpath = sourceSets.getByName("test").runtimeClasspath
+        maxHeapSize = "4g"
+        args("build/corpus", "20", "250")
+    }
+    val benchmarkExamples by registering(JavaExec::class) {
+        group = "verification"
+        description = "Benchmark each recipe on its examples in `examples.yml`, failing when an example no longer produces its `after`."
+        mainClass = "org.openrewrite.recipe.internal.ExampleBenchmarks"
+        classpath = sourceSets.getByName("test").runtimeClasspath
+        maxHeapSize = "4g"
+    }
+    val reportDuplicateLeaves by registering(JavaExec::class) {
+        group = "verification"
+        description = "Report the leaf recipes that run more than once when the given recipes are composed, e.g. `--args=\"<recipe>...\"`."
+        mainClass = "org.openrewrite.recipe.internal.DuplicateLeafReport"
+        classpath = sourceSets.getByName("test").runtimeClasspath
+    }
+    val validateBundledRecipes by registering(JavaExec::class) {
+        group = "verification"
+        description = "Validate every bundled recipe and the recipes they list, reporting failures and the slowest to validate on their own."
+        mainClass = "org.openrewrite.recipe.internal.ValidateBundledRecipes"
+        classpath = sourceSets.getByName("test").runtimeClasspath
+        maxHeapSize = "4g"
+        args("build/reports/recipe-validation.txt")
+    }
+    val mergeTypeTable by registering(JavaExec::class) {
+        group = "generate"
+        description = "Replace the rows of one artifact in a type table, e.g. `--args=\"src/main/resources/META-INF/rewrite/classpath.tsv.gz com.google.guava:guava build/guava.tsv.gz\"`."
+        mainClass = "org.openrewrite.java.internal.parser.TypeTableMerge"
+        classpath = sourceSets.getByName("test").runtimeClasspath
+    }
     // The generated recipes are not shipped from here, but copied into rewrite-migrate-java
     val inlineMethodsOutputDir = "build/generated/META-INF/rewrite"
     val generateInlineGuavaMethods by registering(JavaExec::class) {
@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.zip.GZIPInputStream;
 
 import static java.util.Collections.emptyList;
@@ -57,10 +58,12 @@ public class InlineMethodCallsRecipeGenerator {
         TypeTable.Reader.Options options = TypeTable.Reader.Options.builder()
           .artifactMatcher(artifactIdVersion -> artifactIdVersion.startsWith(artifactId + '-'))
           .build();
+        // Read the type tables of this project only; dependencies ship their own for other versions
+        List<Path> typeTables = List.of(
+          Path.of("src", "main", "resources").resolve(TypeTable.DEFAULT_RESOURCE_PATH),
+          Path.of("src", "test", "resources").resolve(TypeTable.DEFAULT_RESOURCE_PATH));
         try {
-            // Read the type tables of this project only; dependencies ship their own for other versions
-            for (String sourceSet : List.of("main", "test")) {
-                Path typeTable = Path.of("src", sourceSet, "resources").resolve(TypeTable.DEFAULT_RESOURCE_PATH);
+            for (Path typeTable : typeTables) {
                 if (!Files.exists(typeTable)) {
                     continue;
                 }
@@ -74,7 +77,7 @@ public class InlineMethodCallsRecipeGenerator {
                 throw new IllegalStateException("No `@InlineMe` annotated methods found for " + artifactId +
                   "; is it listed as a `parserClasspath` or `testParserClasspath` dependency, and is the type table up to date?");
             }
-            generateYamlRecipes(inlineMethods, outputDirectory);
+            generateYamlRecipes(inlineMethods, TypeTableIndex.read(typeTables), outputDirectory);
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -84,6 +87,8 @@ public class InlineMethodCallsRecipeGenerator {
       TypeTable.GroupArtifactVersion gav,
       Collection<TypeTable.ClassDefinition> classes,
       List<InlineMeMethod> inlineMethods) {
+        // Reset for every descriptor and signature, rather than allocated for each
+        MethodSignatureCursor cursor = new MethodSignatureCursor();
         for (TypeTable.ClassDefinition classDef : classes) {
             for (TypeTable.Member member : classDef.getMembers()) {
                 // Bridge methods carry a copy of the annotation of the method they delegate to
@@ -93,7 +98,7 @@ public class InlineMethodCallsRecipeGenerator {
 
                 String annotations = member.getAnnotations();
                 if (annotations != null && annotations.contains("InlineMe")) {
-                    InlineMeMethod inlineMethod = extractInlineMeMethod(gav, classDef, member);
+                    InlineMeMethod inlineMethod = extractInlineMeMethod(gav, classDef, member, cursor);
                     if (inlineMethod != null) {
                         inlineMethods.add(inlineMethod);
                     }
@@ -105,7 +110,8 @@ public class InlineMethodCallsRecipeGenerator {
     private static @Nullable InlineMeMethod extractInlineMeMethod(
       TypeTable.GroupArtifactVersion gav,
       TypeTable.ClassDefinition classDef,
-      TypeTable.Member member) {
+      TypeTable.Member member,
+      MethodSignatureCursor cursor) {
         try {
             // Parse the annotations to find @InlineMe
             List<AnnotationDeserializer.AnnotationInfo> annotations =
@@ -149,8 +155,8 @@ public class InlineMethodCallsRecipeGenerator {
 
                 if (replacement != null) {
                     // Build the method pattern
-                    String methodPattern = buildMethodPattern(classDef, member);
-                    String classpathResource = gav.getArtifactId() + "-" + gav.getVersion().substring(0, gav.getVersion().indexOf('.'));
+                    String methodPattern = buildMethodPattern(classDef, member, cursor);
+                    String classpathResource = TypeTableIndex.classpathResource(gav.getArtifactId(), gav.getVersion());
                     return new InlineMeMethod(
                       gav,
                       methodPattern,
@@ -167,7 +173,8 @@ public class InlineMethodCallsRecipeGenerator {
         return null;
     }
 
-    private static String buildMethodPattern(TypeTable.ClassDefinition classDef, TypeTable.Member member) {
+    private static String buildMethodPattern(TypeTable.ClassDefinition classDef, TypeTable.Member member,
+                                             MethodSignatureCursor cursor) {
         String className = classDef.getName().replace('/', '.');
         String methodName = member.getName();
 
@@ -176,10 +183,10 @@ public class InlineMethodCallsRecipeGenerator {
             methodName = "<constructor>";
         }
 
-        List<String> paramTypes = parseMethodParameters(member.getDescriptor());
+        List<String> paramTypes = parseMethodParameters(member.getDescriptor(), cursor);
 
         // The erasure of a type variable can never match, as call sites resolve it to the argument type
-        List<String> signatureParams = parseSignatureParameters(member.getSignature());
+        List<String> signatureParams = parseSignatureParameters(member.getSignature(), cursor);
         if (signatureParams.size() == paramTypes.size()) {
             for (int i = 0; i < signatureParams.size(); i++) {
                 String typeVariable = signatureParams.get(i);
@@ -192,16 +199,10 @@ public class InlineMethodCallsRecipeGenerator {
         return className + " " + methodName + "(" + String.join(", ", paramTypes) + ")";
     }
 
-    private static List<String> parseMethodParameters(String descriptor) {
+    private static List<String> parseMethodParameters(String descriptor, MethodSignatureCursor cursor) {
         List<String> paramTypes = new ArrayList<>();
-        if (!descriptor.startsWith("(")) {
-            return paramTypes;
-        }
-
-        int i = 1; // Skip opening '('
-        while (i < descriptor.length() && descriptor.charAt(i) != ')') {
-            paramTypes.add(parseType(descriptor, i));
-            i += getTypeLength(descriptor, i);
+        for (cursor.reset(descriptor); cursor.next(); ) {
+            paramTypes.add(cursor.javaType());
         }
         return paramTypes;
     }
@@ -210,95 +211,18 @@ public class InlineMethodCallsRecipeGenerator {
      * Parse the parameters out of a JVMS 4.7.9.1 generic method signature, returning {@code *} for
      * each parameter that is a type variable, and {@code null} for any other parameter.
      */
-    private static List<String> parseSignatureParameters(@Nullable String signature) {
+    private static List<String> parseSignatureParameters(@Nullable String signature, MethodSignatureCursor cursor) {
         if (signature == null) {
             return emptyList();
         }
-        int open = signature.indexOf('('); // Skip any formal type parameters
-        if (open == -1) {
-            return emptyList();
-        }
-
         List<String> paramTypes = new ArrayList<>();
-        int i = open + 1;
-        while (i < signature.length() && signature.charAt(i) != ')') {
-            int dimensions = 0;
-            while (signature.charAt(i) == '[') {
-                dimensions++;
-                i++;
-            }
-            boolean typeVariable = signature.charAt(i) == 'T';
-            paramTypes.add(typeVariable ? "*" + "[]".repeat(dimensions) : null);
-            i = endOfSignatureType(signature, i);
+        for (cursor.reset(signature); cursor.next(); ) {
+            paramTypes.add(cursor.isTypeVariable() ? "*" + "[]".repeat(cursor.dimensions()) : null);
         }
         return paramTypes;
     }
 
-    private static int endOfSignatureType(String signature, int start) {
-        char c = signature.charAt(start);
-        if (c != 'L' && c != 'T') {
-            return start + 1; // Primitive
-        }
-        // Scan past any nested type arguments to the terminating semicolon
-        int depth = 0;
-        for (int i = start; i < signature.length(); i++) {
-            switch (signature.charAt(i)) {
-                case '<':
-                    depth++;
-                    break;
-                case '>':
-                    depth--;
-                    break;
-                case ';':
-                    if (depth == 0) {
-                        return i + 1;
-                    }
-                    break;
-            }
-        }
-        throw new IllegalArgumentException("Unterminated type at index " + start + " in signature " + signature);
-    }
-
-    private static String parseType(String descriptor, int start) {
-        char c = descriptor.charAt(start);
-        return switch (c) {
-            case 'B' -> "byte";
-            case 'C' -> "char";
-            case 'D' -> "double";
-            case 'F' -> "float";
-            case 'I' -> "int";
-            case 'J' -> "long";
-            case 'S' -> "short";
-            case 'Z' -> "boolean";
-            case 'V' -> "void";
-            case 'L' -> {
-                // Object type - extract class name
-                int semicolon = descriptor.indexOf(';', start);
-                String className = descriptor.substring(start + 1, semicolon);
-                yield className.replace('/', '.');
-            }
-            case '[' -> {
-                // Array type
-                String elementType = parseType(descriptor, start + 1);
-                yield elementType + "[]";
-            }
-            default -> "Object"; // Fallback
-        };
-    }
-
-    private static int getTypeLength(String descriptor, int start) {
-        char c = descriptor.charAt(start);
-        return switch (c) {
-            case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z', 'V' -> 1;
-            // Object type - find the semicolon
-            case 'L' -> descriptor.indexOf(';', start) - start + 1;
-            // Array type - recurse for element type
-            case '[' -> 1 + getTypeLength(descriptor, start + 1);
-            default -> 1;
-        };
-    }
-
-    private static void generateYamlRecipes(List<InlineMeMethod> methods, Path outputDirectory) throws IOException {
+    private static void generateYamlRecipes(List<InlineMeMethod> methods, TypeTableIndex index, Path outputDirectory) throws IOException {
         InlineMeMethod firstMethod = methods.getFirst();
         TypeTable.GroupArtifactVersion gav = firstMethod.gav();
         String moduleName = Arrays.stream(gav.getArtifactId().split("-"))
@@ -345,19 +269,32 @@ public class InlineMethodCallsRecipeGenerator {
             }
 
             yaml.append("      classpathFromResources:\n");
-            yaml.append("        - '").append(escapeYaml(method.classpathResource)).append("'\n");
+            for (String classpathResource : classpathResources(method, index)) {
+                yaml.append("        - '").append(escapeYaml(classpathResource)).append("'\n");
+            }
         }
 
         Files.writeString(outputPath, yaml);
         System.out.println("Generated " + methods.size() + " inline recipes to " + outputPath);
     }
 
+    /**
+     * The declaring artifact, plus those providing the types the replacement imports, but nothing else.
+     */
+    static Set<String> classpathResources(InlineMeMethod method, TypeTableIndex index) {
+        List<String> referenced = new ArrayList<>(method.imports);
+        referenced.addAll(method.staticImports);
+        Set<String> classpathResources = index.classpathResources(referenced);
+        classpathResources.add(method.classpathResource);
+        return classpathResources;
+    }
+
     private static String escapeYaml(String value) {
         // Escape single quotes by doubling them
         return value.replace("'", "''");
     }
 
-    private record InlineMeMethod(
+    record InlineMeMethod(
       TypeTable.GroupArtifactVersion gav,
       String methodPattern,
       String replacement,
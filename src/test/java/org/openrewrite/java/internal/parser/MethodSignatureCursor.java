@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal.parser;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Walks the parameter types of a JVMS 4.3.3 method descriptor, or of a JVMS 4.7.9.1 generic method signature,
+ * in place. Each step only moves indices into the text, so reading the kind, array dimensions and class name
+ * range of a parameter creates no intermediate strings. One cursor can be {@link #reset(CharSequence) reset} to
+ * walk many descriptors in turn.
+ * <pre>{@code
+ * MethodSignatureCursor cursor = new MethodSignatureCursor();
+ * for (String descriptor : descriptors) {
+ *     for (cursor.reset(descriptor); cursor.next(); ) {
+ *         ...
+ *     }
+ * }
+ * }</pre>
+ */
+public class MethodSignatureCursor {
+
+    private CharSequence text = "";
+
+    /**
+     * The text, when it is a string without any type arguments, as every descriptor is, such that the end of
+     * each class type can be found with {@link String#indexOf(int, int)}.
+     */
+    private @Nullable String withoutTypeArguments;
+
+    private int dimensions;
+    private int typeStart;
+    private int nameEnd;
+    private int typeEnd;
+
+    /**
+     * A cursor without parameters, until it is {@link #reset(CharSequence) reset} to a descriptor or signature.
+     */
+    public MethodSignatureCursor() {
+    }
+
+    /**
+     * @param text A method descriptor or generic method signature, as in {@link #reset(CharSequence)}.
+     */
+    public MethodSignatureCursor(CharSequence text) {
+        reset(text);
+    }
+
+    /**
+     * Move before the first parameter of other text.
+     *
+     * @param text A method descriptor or generic method signature. Formal type parameters are skipped, and text
+     *             without a parameter list has no parameters.
+     * @return This cursor.
+     */
+    public MethodSignatureCursor reset(CharSequence text) {
+        this.text = text;
+        this.withoutTypeArguments = text instanceof String string && string.indexOf('<') == -1 ? string : null;
+        this.dimensions = 0;
+        this.typeStart = 0;
+        this.nameEnd = 0;
+        this.typeEnd = text.length();
+        // Formal type parameters hold no parentheses, so the first one opens the parameter list
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == '(') {
+                this.typeEnd = i + 1;
+                break;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Move to the next parameter.
+     *
+     * @return {@code false} when there are no more parameters.
+     */
+    public boolean next() {
+        int i = typeEnd;
+        if (i >= text.length() || text.charAt(i) == ')') {
+            return false;
+        }
+        dimensions = 0;
+        while (i < text.length() && text.charAt(i) == '[') {
+            dimensions++;
+            i++;
+        }
+        if (i == text.length()) {
+            throw new IllegalArgumentException("Missing element type at index " + i + " in " + text);
+        }
+        typeStart = i;
+        typeEnd = endOfType(i);
+        return true;
+    }
+
+    /**
+     * @return The array dimensions of the current parameter, zero if it is not an array.
+     */
+    public int dimensions() {
+        return dimensions;
+    }
+
+    /**
+     * @return The descriptor character of the (element) type of the current parameter, such as {@code I} for
+     * {@code int}, {@code L} for a class type, or {@code T} for a type variable.
+     */
+    public char kind() {
+        return text.charAt(typeStart);
+    }
+
+    public boolean isTypeVariable() {
+        return kind() == 'T';
+    }
+
+    public boolean isPrimitive() {
+        char kind = kind();
+        return kind != 'L' && kind != 'T';
+    }
+
+    /**
+     * @return Where the internal class name, or type variable name, of the current parameter starts.
+     */
+    public int nameStart() {
+        return typeStart + 1;
+    }
+
+    /**
+     * @return Where the internal class name, or type variable name, of the current parameter ends. In a generic
+     * signature, this is before the first type arguments, so the name of a type nested in a parameterized type
+     * covers just the outer class.
+     */
+    public int nameEnd() {
+        return nameEnd;
+    }
+
+    /**
+     * @return The current parameter as it is written in Java source, such as {@code java.lang.String[]}.
+     * Type variables are returned by their name.
+     */
+    public String javaType() {
+        String elementType = switch (kind()) {
+            case 'B' -> "byte";
+            case 'C' -> "char";
+            case 'D' -> "double";
+            case 'F' -> "float";
+            case 'I' -> "int";
+            case 'J' -> "long";
+            case 'S' -> "short";
+            case 'Z' -> "boolean";
+            case 'V' -> "void";
+            case 'L', 'T' -> text.subSequence(nameStart(), nameEnd()).toString().replace('/', '.');
+            default -> "Object";
+        };
+        return dimensions == 0 ? elementType : elementType + "[]".repeat(dimensions);
+    }
+
+    private int endOfType(int start) {
+        char c = text.charAt(start);
+        if (c != 'L' && c != 'T') {
+            nameEnd = start + 1;
+            return start + 1; // Primitive
+        }
+        if (withoutTypeArguments != null) {
+            int semicolon = withoutTypeArguments.indexOf(';', start);
+            if (semicolon != -1) {
+                nameEnd = semicolon;
+                return semicolon + 1;
+            }
+        }
+        // Scan past any nested type arguments to the terminating semicolon
+        nameEnd = -1;
+        int depth = 0;
+        for (int i = start; i < text.length(); i++) {
+            switch (text.charAt(i)) {
+                case '<' -> {
+                    if (nameEnd == -1) {
+                        nameEnd = i;
+                    }
+                    depth++;
+                }
+                case '>' -> depth--;
+                case ';' -> {
+                    if (depth == 0) {
+                        if (nameEnd == -1) {
+                            nameEnd = i;
+                        }
+                        return i + 1;
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unterminated type at index " + start + " in " + text);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MethodSignatureCursorTest {
+
+    @Test
+    void descriptor() {
+        assertThat(javaTypes("(I[JLjava/lang/String;[[Ljava/util/Map$Entry;Z)V"))
+          .containsExactly("int", "long[]", "java.lang.String", "java.util.Map$Entry[][]", "boolean");
+    }
+
+    @Test
+    void noParameters() {
+        assertThat(javaTypes("()V")).isEmpty();
+        assertThat(javaTypes("Ljava/lang/Object;")).isEmpty();
+    }
+
+    @Test
+    void genericSignature() {
+        String signature = "<K:Ljava/lang/Object;V:Ljava/lang/Object;>(TK;[TV;Ljava/util/Map<TK;Ljava/util/List<TV;>;>;I)TV;";
+        MethodSignatureCursor cursor = new MethodSignatureCursor(signature);
+
+        assertThat(cursor.next()).isTrue();
+        assertThat(cursor.isTypeVariable()).isTrue();
+        assertThat(cursor.dimensions()).isZero();
+        assertThat(signature.substring(cursor.nameStart(), cursor.nameEnd())).isEqualTo("K");
+
+        assertThat(cursor.next()).isTrue();
+        assertThat(cursor.isTypeVariable()).isTrue();
+        assertThat(cursor.dimensions()).isEqualTo(1);
+        assertThat(cursor.javaType()).isEqualTo("V[]");
+
+        assertThat(cursor.next()).isTrue();
+        assertThat(cursor.kind()).isEqualTo('L');
+        assertThat(cursor.javaType()).isEqualTo("java.util.Map");
+
+        assertThat(cursor.next()).isTrue();
+        assertThat(cursor.isPrimitive()).isTrue();
+        assertThat(cursor.javaType()).isEqualTo("int");
+
+        assertThat(cursor.next()).isFalse();
+    }
+
+    @Test
+    void anyCharSequence() {
+        assertThat(javaTypes(new StringBuilder("(Ljava/util/List<Ljava/lang/String;>;D)V")))
+          .containsExactly("java.util.List", "double");
+    }
+
+    @Test
+    void reset() {
+        MethodSignatureCursor cursor = new MethodSignatureCursor();
+        assertThat(cursor.next()).isFalse();
+
+        assertThat(cursor.reset("([[Ljava/lang/String;J)V").next()).isTrue();
+        assertThat(cursor.javaType()).isEqualTo("java.lang.String[][]");
+
+        // Part way through the previous text, and from an array to a parameter that is not one
+        assertThat(cursor.reset("<T:Ljava/lang/Object;>(TT;)V").next()).isTrue();
+        assertThat(cursor.isTypeVariable()).isTrue();
+        assertThat(cursor.dimensions()).isZero();
+        assertThat(cursor.javaType()).isEqualTo("T");
+        assertThat(cursor.next()).isFalse();
+
+        assertThat(cursor.reset("()V").next()).isFalse();
+    }
+
+    @Test
+    void unterminatedType() {
+        MethodSignatureCursor cursor = new MethodSignatureCursor("(Ljava/util/List<Ljava/lang/String;>");
+        assertThatThrownBy(cursor::next).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void missingElementType() {
+        MethodSignatureCursor cursor = new MethodSignatureCursor("(I[[");
+        assertThat(cursor.next()).isTrue();
+        assertThatThrownBy(cursor::next).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<String> javaTypes(CharSequence text) {
+        List<String> javaTypes = new ArrayList<>();
+        for (MethodSignatureCursor cursor = new MethodSignatureCursor(text); cursor.next(); ) {
+            javaTypes.add(cursor.javaType());
+        }
+        return javaTypes;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal.parser;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Maps each type in the type tables to the {@code classpathFromResources} entry that provides it, such that a parser
+ * can be given just the artifacts that a template refers to, rather than every artifact it might need.
+ */
+public class TypeTableIndex {
+
+    private static final Pattern IMPORT = Pattern.compile("(?m)^import\\s+(?:static\\s+)?([.\\w]+)\\s*;");
+
+    private final Map<String, String> classpathResourceByType;
+    private final Map<String, List<String>> supertypesByType;
+
+    private TypeTableIndex(Map<String, String> classpathResourceByType, Map<String, List<String>> supertypesByType) {
+        this.classpathResourceByType = classpathResourceByType;
+        this.supertypesByType = supertypesByType;
+    }
+
+    /**
+     * Index the given gzipped type tables; where two artifacts declare the same type, the first one read wins.
+     */
+    public static TypeTableIndex read(Collection<Path> typeTables) throws IOException {
+        Map<String, String> classpathResourceByType = new HashMap<>();
+        Map<String, List<String>> supertypesByType = new HashMap<>();
+        for (Path typeTable : typeTables) {
+            if (Files.exists(typeTable)) {
+                try (InputStream is = Files.newInputStream(typeTable); InputStream inflate = new GZIPInputStream(is)) {
+                    read(inflate, classpathResourceByType, supertypesByType);
+                }
+            }
+        }
+        return new TypeTableIndex(classpathResourceByType, supertypesByType);
+    }
+
+    static TypeTableIndex read(InputStream tsv) throws IOException {
+        Map<String, String> classpathResourceByType = new HashMap<>();
+        Map<String, List<String>> supertypesByType = new HashMap<>();
+        read(tsv, classpathResourceByType, supertypesByType);
+        return new TypeTableIndex(classpathResourceByType, supertypesByType);
+    }
+
+    /**
+     * Only the leading class columns, from {@code groupId} up to {@code classSuperinterfaceSignatures}, are looked
+     * at, so the member columns, which make up most of each row, are never split.
+     */
+    private static void read(InputStream tsv, Map<String, String> classpathResourceByType,
+                             Map<String, List<String>> supertypesByType) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(tsv, StandardCharsets.UTF_8));
+        reader.readLine(); // header
+        String previousClassName = null;
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            int artifactStart = line.indexOf('\t') + 1;
+            int versionStart = line.indexOf('\t', artifactStart) + 1;
+            int accessStart = line.indexOf('\t', versionStart) + 1;
+            int classNameStart = line.indexOf('\t', accessStart) + 1;
+            int classNameEnd = line.indexOf('\t', classNameStart);
+            String className = line.substring(classNameStart, classNameEnd == -1 ? line.length() : classNameEnd);
+            // Each member of a class is on a row of its own
+            if (className.equals(previousClassName)) {
+                continue;
+            }
+            previousClassName = className;
+            String type = typeName(className);
+            if (classpathResourceByType.putIfAbsent(type, classpathResource(
+              line.substring(artifactStart, versionStart - 1),
+              line.substring(versionStart, accessStart - 1))) == null && classNameEnd != -1) {
+                supertypesByType.put(type, supertypes(line, classNameEnd + 1));
+            }
+        }
+    }
+
+    /**
+     * The superclass and superinterfaces of the class on a row, from the {@code classSuperclassSignature} and
+     * {@code |} separated {@code classSuperinterfaceSignatures} columns that follow {@code classSignature}.
+     */
+    private static List<String> supertypes(String line, int classSignatureStart) {
+        int superclassStart = line.indexOf('\t', classSignatureStart) + 1;
+        if (superclassStart == 0) {
+            return List.of();
+        }
+        int superinterfacesStart = line.indexOf('\t', superclassStart) + 1;
+        if (superinterfacesStart == 0) {
+            return List.of();
+        }
+        int superinterfacesEnd = line.indexOf('\t', superinterfacesStart);
+        List<String> supertypes = new ArrayList<>();
+        if (superinterfacesStart - 1 > superclassStart) {
+            supertypes.add(typeName(line.substring(superclassStart, superinterfacesStart - 1)));
+        }
+        String superinterfaces = line.substring(superinterfacesStart, superinterfacesEnd == -1 ? line.length() : superinterfacesEnd);
+        if (!superinterfaces.isEmpty()) {
+            for (String superinterface : superinterfaces.split("\\|")) {
+                supertypes.add(typeName(superinterface));
+            }
+        }
+        return supertypes;
+    }
+
+    private static String typeName(String internalName) {
+        return internalName.replace('/', '.').replace('$', '.');
+    }
+
+    /**
+     * The {@code classpathFromResources} name of an artifact, as in {@code guava-33} for {@code guava} version
+     * {@code 33.4.0-jre}.
+     */
+    static String classpathResource(String artifactId, String version) {
+        int majorEnd = version.indexOf('.');
+        return artifactId + "-" + (majorEnd == -1 ? version : version.substring(0, majorEnd));
+    }
+
+    /**
+     * @param name A fully qualified type name, or a static member of one, as in an {@code import} or
+     *             {@code import static}.
+     * @return The {@code classpathFromResources} entry providing it, or {@code null} for types not in the type tables,
+     * such as those of the JDK.
+     */
+    public @Nullable String classpathResource(String name) {
+        String type = indexedType(name);
+        return type == null ? null : classpathResourceByType.get(type);
+    }
+
+    /**
+     * The minimal, sorted, set of {@code classpathFromResources} entries that provides all the given names, along
+     * with all their supertypes, such that a parser given them can attribute each type completely. A
+     * {@code reactor.core.publisher.Flux} also needs {@code reactive-streams-1}, for instance, as its
+     * {@code CorePublisher} extends {@code org.reactivestreams.Publisher}.
+     */
+    public Set<String> classpathResources(Collection<String> names) {
+        Set<String> classpathResources = new TreeSet<>();
+        Set<String> visited = new HashSet<>();
+        Deque<String> types = new ArrayDeque<>();
+        for (String name : names) {
+            String type = indexedType(name);
+            if (type != null && visited.add(type)) {
+                types.push(type);
+            }
+        }
+        while (!types.isEmpty()) {
+            String type = types.pop();
+            classpathResources.add(classpathResourceByType.get(type));
+            for (String supertype : supertypesByType.getOrDefault(type, List.of())) {
+                // Supertypes from the JDK are not in the type tables
+                if (classpathResourceByType.containsKey(supertype) && visited.add(supertype)) {
+                    types.push(supertype);
+                }
+            }
+        }
+        return classpathResources;
+    }
+
+    /**
+     * The indexed type that is, or declares the static member, that the name refers to.
+     */
+    private @Nullable String indexedType(String name) {
+        if (classpathResourceByType.containsKey(name)) {
+            return name;
+        }
+        int lastDot = name.lastIndexOf('.');
+        if (lastDot > 0 && classpathResourceByType.containsKey(name.substring(0, lastDot))) {
+            return name.substring(0, lastDot);
+        }
+        return null;
+    }
+
+    /**
+     * The minimal, sorted, set of {@code classpathFromResources} entries that provides all the types a Java source
+     * file imports. Wildcard imports name no type, so they are not resolved.
+     */
+    public Set<String> classpathResourcesImportedBy(String javaSource) {
+        Set<String> imports = new TreeSet<>();
+        Matcher matcher = IMPORT.matcher(javaSource);
+        while (matcher.find()) {
+            imports.add(matcher.group(1));
+        }
+        return classpathResources(imports);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal.parser;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TypeTableIndexTest {
+
+    private static final String TSV = """
+      groupId\tartifactId\tversion\tclassAccess\tclassName\tclassSignature\tname
+      com.google.guava\tguava\t33.4.0-jre\t1\tcom/google/common/collect/ImmutableList\t\tof
+      com.google.guava\tguava\t33.4.0-jre\t1\tcom/google/common/collect/ImmutableList\t\tcopyOf
+      com.google.guava\tguava\t33.4.0-jre\t9\tcom/google/common/collect/ImmutableMap$Builder\t\tput
+      org.assertj\tassertj-core\t3.27.3\t1\torg/assertj/core/api/Assertions\t\tassertThat
+      """;
+
+    @Test
+    void resolvesTypesNestedTypesAndStaticMembers() throws IOException {
+        TypeTableIndex index = TypeTableIndex.read(new ByteArrayInputStream(TSV.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(index.classpathResource("com.google.common.collect.ImmutableList")).isEqualTo("guava-33");
+        assertThat(index.classpathResource("com.google.common.collect.ImmutableMap.Builder")).isEqualTo("guava-33");
+        assertThat(index.classpathResource("org.assertj.core.api.Assertions.assertThat")).isEqualTo("assertj-core-3");
+        assertThat(index.classpathResource("java.util.List")).isNull();
+    }
+
+    @Test
+    void minimalSetOfClasspathResources() throws IOException {
+        TypeTableIndex index = TypeTableIndex.read(new ByteArrayInputStream(TSV.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(index.classpathResources(List.of(
+          "org.assertj.core.api.Assertions.assertThat",
+          "com.google.common.collect.ImmutableList",
+          "com.google.common.collect.ImmutableMap.Builder",
+          "java.util.List")))
+          .containsExactly("assertj-core-3", "guava-33");
+    }
+
+    @Test
+    void classpathResourcesImportedBySource() throws IOException {
+        TypeTableIndex index = TypeTableIndex.read(new ByteArrayInputStream(TSV.getBytes(StandardCharsets.UTF_8)));
+
+        //language=java
+        String source = """
+          import static org.assertj.core.api.Assertions.assertThat;
+
+          import com.google.common.collect.ImmutableList;
+          import java.util.List;
+
+          class Test {
+          }
+          """;
+        assertThat(index.classpathResourcesImportedBy(source)).containsExactly("assertj-core-3", "guava-33");
+    }
+
+    @Test
+    void closeOverSupertypes() throws IOException {
+        String tsv = """
+          groupId\tartifactId\tversion\tclassAccess\tclassName\tclassSignature\tclassSuperclassSignature\tclassSuperinterfaceSignatures\taccess\tname
+          io.projectreactor\treactor-core\t3.8.6\t1057\treactor/core/publisher/Flux\t<T:Ljava/lang/Object;>Ljava/lang/Object;Lreactor/core/CorePublisher<TT;>;\tjava/lang/Object\treactor/core/CorePublisher\t9\tjust
+          io.projectreactor\treactor-core\t3.8.6\t1057\treactor/core/publisher/Flux\t<T:Ljava/lang/Object;>Ljava/lang/Object;Lreactor/core/CorePublisher<TT;>;\tjava/lang/Object\treactor/core/CorePublisher\t9\tempty
+          io.projectreactor\treactor-core\t3.8.6\t1537\treactor/core/CorePublisher\t<T:Ljava/lang/Object;>Ljava/lang/Object;Lorg/reactivestreams/Publisher<TT;>;\tjava/lang/Object\torg/reactivestreams/Publisher\t1025\tsubscribe
+          io.projectreactor\treactor-core\t3.8.6\t1\treactor/core/publisher/Sinks\t\tjava/lang/Object\t\t9\tmany
+          org.reactivestreams\treactive-streams\t1.0.4\t1537\torg/reactivestreams/Publisher\t<T:Ljava/lang/Object;>Ljava/lang/Object;\tjava/lang/Object\t\t1025\tsubscribe
+          com.fasterxml.jackson.core\tjackson-core\t2.19.0\t1057\tcom/fasterxml/jackson/core/JsonParser\t\tjava/lang/Object\tjava/io/Closeable|com/fasterxml/jackson/core/Versioned\t1\tnextToken
+          com.fasterxml.jackson.core\tjackson-core\t2.19.0\t1537\tcom/fasterxml/jackson/core/Versioned\t\tjava/lang/Object\t\t1025\tversion
+          """;
+        TypeTableIndex index = TypeTableIndex.read(new ByteArrayInputStream(tsv.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(index.classpathResources(List.of("reactor.core.publisher.Flux")))
+          .containsExactly("reactive-streams-1", "reactor-core-3");
+        assertThat(index.classpathResources(List.of("reactor.core.publisher.Sinks")))
+          .containsExactly("reactor-core-3");
+        assertThat(index.classpathResources(List.of("com.fasterxml.jackson.core.JsonParser")))
+          .containsExactly("jackson-core-2");
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal.parser;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * Replaces, adds or removes the rows of a single {@code groupId:artifactId} in a type table, leaving every other row
+ * as it was, so that refreshing one {@code parserClasspath} entry does not require regenerating the whole table.
+ * <p>
+ * Both tables are streamed, so only one row is held in memory at a time.
+ */
+public class TypeTableMerge {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Usage: TypeTableMerge <type table> <groupId:artifactId> [<type table to take its rows from>]");
+            return;
+        }
+        Path table = Path.of(args[0]);
+        Result result = merge(table, args[1], args.length > 2 ? Path.of(args[2]) : null);
+        System.out.printf("Replaced %d rows of %s with %d rows in %s%n", result.removed(), args[1], result.added(), table);
+    }
+
+    /**
+     * @param table         The type table to update in place.
+     * @param groupArtifact The {@code groupId:artifactId} whose rows to replace, regardless of their version.
+     * @param source        A type table holding the new rows, or {@code null} to remove the artifact.
+     *                      Rows of other artifacts in it are ignored, but it must hold at least one row of
+     *                      {@code groupArtifact}, so that a mistyped coordinate cannot silently remove the artifact.
+     */
+    static Result merge(Path table, String groupArtifact, @Nullable Path source) throws IOException {
+        String rowPrefix = groupArtifact.replace(':', '\t') + '\t';
+        // Next to the table so that the move is atomic; the shaded jar excludes these should a run be killed
+        Path merged = Files.createTempFile(table.toAbsolutePath().getParent(), table.getFileName().toString(), ".tmp");
+        int removed = 0;
+        int added = -1;
+        try (BufferedReader in = reader(table); Writer out = writer(merged, table)) {
+            String header = in.readLine();
+            if (header == null) {
+                throw new IllegalArgumentException(table + " is empty");
+            }
+            out.write(header);
+            out.write('\n');
+            for (String row = in.readLine(); row != null; row = in.readLine()) {
+                if (!row.startsWith(rowPrefix)) {
+                    out.write(row);
+                    out.write('\n');
+                    continue;
+                }
+                // The rows of an artifact are contiguous, so its new rows go where the old ones were
+                if (added < 0) {
+                    added = copyRows(source, header, groupArtifact, rowPrefix, out);
+                }
+                removed++;
+            }
+            if (added < 0) {
+                added = copyRows(source, header, groupArtifact, rowPrefix, out);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(merged);
+            throw e;
+        }
+        Files.move(merged, table, REPLACE_EXISTING, ATOMIC_MOVE);
+        return new Result(removed, added);
+    }
+
+    private static int copyRows(@Nullable Path source, String header, String groupArtifact, String rowPrefix,
+                                Writer out) throws IOException {
+        if (source == null) {
+            return 0;
+        }
+        int copied = 0;
+        try (BufferedReader in = reader(source)) {
+            if (!header.equals(in.readLine())) {
+                throw new IllegalArgumentException("The columns of " + source + " differ from those of the table to update");
+            }
+            for (String row = in.readLine(); row != null; row = in.readLine()) {
+                if (row.startsWith(rowPrefix)) {
+                    out.write(row);
+                    out.write('\n');
+                    copied++;
+                }
+            }
+        }
+        if (copied == 0) {
+            throw new IllegalArgumentException(source + " has no rows of " + groupArtifact +
+                                               ", pass no type table to remove the artifact");
+        }
+        return copied;
+    }
+
+    private static BufferedReader reader(Path table) throws IOException {
+        InputStream is = Files.newInputStream(table);
+        if (table.toString().endsWith(".gz")) {
+            is = new GZIPInputStream(is);
+        }
+        return new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Compressed like the table it replaces. {@code GZIPOutputStream} writes no timestamp or file name into the header,
+     * so merging the same rows always produces the same bytes.
+     */
+    private static Writer writer(Path merged, Path table) throws IOException {
+        OutputStream os = Files.newOutputStream(merged);
+        if (table.toString().endsWith(".gz")) {
+            os = new GZIPOutputStream(os);
+        }
+        return new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8));
+    }
+
+    record Result(int removed, int added) {
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.java.internal.parser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TypeTableMergeTest {
+
+    private static final String HEADER = "groupId\tartifactId\tversion\tclassName\n";
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replaceArtifactInPlace() throws IOException {
+        Path table = write("classpath.tsv.gz", HEADER +
+          "org.assertj\tassertj-core\t3.27.3\tAssertions\n" +
+          "com.google.guava\tguava\t33.4.0-jre\tImmutableList\n" +
+          "com.google.guava\tguava\t33.4.0-jre\tImmutableMap\n" +
+          "org.mockito\tmockito-core\t5.15.2\tMockito\n");
+        Path source = write("guava.tsv.gz", HEADER +
+          "org.jspecify\tjspecify\t1.0.0\tNullable\n" +
+          "com.google.guava\tguava\t33.5.0-jre\tImmutableList\n");
+
+        TypeTableMerge.Result result = TypeTableMerge.merge(table, "com.google.guava:guava", source);
+
+        assertThat(result).isEqualTo(new TypeTableMerge.Result(2, 1));
+        assertThat(read(table)).isEqualTo(HEADER +
+          "org.assertj\tassertj-core\t3.27.3\tAssertions\n" +
+          "com.google.guava\tguava\t33.5.0-jre\tImmutableList\n" +
+          "org.mockito\tmockito-core\t5.15.2\tMockito\n");
+    }
+
+    @Test
+    void addAndRemoveArtifact() throws IOException {
+        Path table = write("classpath.tsv.gz", HEADER +
+          "org.assertj\tassertj-core\t3.27.3\tAssertions\n");
+        Path source = write("log4j.tsv.gz", HEADER +
+          "org.apache.logging.log4j\tlog4j-api\t2.24.3\tLogger\n");
+
+        assertThat(TypeTableMerge.merge(table, "org.apache.logging.log4j:log4j-api", source))
+          .isEqualTo(new TypeTableMerge.Result(0, 1));
+        assertThat(read(table)).endsWith("org.apache.logging.log4j\tlog4j-api\t2.24.3\tLogger\n");
+
+        assertThat(TypeTableMerge.merge(table, "org.apache.logging.log4j:log4j-api", null))
+          .isEqualTo(new TypeTableMerge.Result(1, 0));
+        assertThat(read(table)).isEqualTo(HEADER + "org.assertj\tassertj-core\t3.27.3\tAssertions\n");
+    }
+
+    @Test
+    void deterministicOutput() throws IOException {
+        String rows = HEADER + "org.assertj\tassertj-core\t3.27.3\tAssertions\n";
+        Path first = write("first.tsv.gz", rows);
+        Path second = write("second.tsv.gz", rows);
+        Path source = write("source.tsv.gz", HEADER + "com.google.guava\tguava\t33.4.0-jre\tImmutableList\n");
+
+        TypeTableMerge.merge(first, "com.google.guava:guava", source);
+        TypeTableMerge.merge(second, "com.google.guava:guava", source);
+
+        assertThat(Files.readAllBytes(first)).isEqualTo(Files.readAllBytes(second));
+    }
+
+    @Test
+    void rejectDifferentColumns() throws IOException {
+        Path table = write("classpath.tsv.gz", HEADER + "org.assertj\tassertj-core\t3.27.3\tAssertions\n");
+        Path source = write("guava.tsv.gz", "groupId\tartifactId\tversion\n");
+
+        assertThatThrownBy(() -> TypeTableMerge.merge(table, "com.google.guava:guava", source))
+          .isInstanceOf(IllegalArgumentException.class);
+        assertThat(read(table)).isEqualTo(HEADER + "org.assertj\tassertj-core\t3.27.3\tAssertions\n");
+    }
+
+    @Test
+    void rejectSourceWithoutArtifact() throws IOException {
+        String rows = HEADER +
+          "org.assertj\tassertj-core\t3.27.3\tAssertions\n" +
+          "com.google.guava\tguava\t33.4.0-jre\tImmutableList\n";
+        Path table = write("classpath.tsv.gz", rows);
+        Path source = write("guava.tsv.gz", HEADER + "com.google.guava\tguava-testlib\t33.5.0-jre\tTestLogHandler\n");
+
+        assertThatThrownBy(() -> TypeTableMerge.merge(table, "com.google.guava:guava", source))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("com.google.guava:guava");
+        assertThat(read(table)).isEqualTo(rows);
+        try (Stream<Path> files = Files.list(dir)) {
+            assertThat(files).containsExactlyInAnyOrder(table, source);
+        }
+    }
+
+    private Path write(String name, String tsv) throws IOException {
+        Path table = dir.resolve(name);
+        try (OutputStream os = new GZIPOutputStream(Files.newOutputStream(table))) {
+            os.write(tsv.getBytes(StandardCharsets.UTF_8));
+        }
+        return table;
+    }
+
+    private static String read(Path table) throws IOException {
+        try (InputStream is = new GZIPInputStream(Files.newInputStream(table))) {
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
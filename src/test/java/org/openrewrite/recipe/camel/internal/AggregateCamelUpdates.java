@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.recipe.camel.internal;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.recipe.quarkus.internal.AggregateQuarkusUpdates.Version;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.emptyMap;
+import static org.openrewrite.recipe.quarkus.internal.AggregateQuarkusUpdates.definedRecipeNames;
+import static org.openrewrite.recipe.quarkus.internal.AggregateQuarkusUpdates.referencedRecipeNames;
+
+@NullMarked
+public class AggregateCamelUpdates {
+
+    static final String RECIPES_PATH = "META-INF/rewrite/";
+
+    /// Only the per-release descriptors, such as `4.4.yaml` or `4.10.4.yaml`, take part in the version ladder
+    private static final Pattern VERSIONED_DESCRIPTOR = Pattern.compile("\\d+\\.\\d+(\\.\\d+)?\\.ya?ml");
+
+    static final String GENERATED_MARKER = "# This file is auto-generated by running `./gradlew generateCamelAggregation`";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: java AggregateCamelUpdates <path to consolidated recipes>");
+            return;
+        }
+
+        Path consolidatedRecipe = Path.of(args[0]);
+        Map<Version, List<String>> sortedByVersion = recipesDefinedInCamelJar();
+        if (sortedByVersion.isEmpty()) {
+            throw new IllegalStateException(
+              "No versioned Camel upgrade recipes found on the classpath; ensure camel-upgrade-recipes is a dependency.");
+        }
+
+        System.out.printf(
+          "Found %s different versions and %s recipes in total%n",
+          sortedByVersion.size(),
+          sortedByVersion.values().stream().mapToInt(List::size).sum());
+
+        Files.writeString(consolidatedRecipe, renderYaml(sortedByVersion));
+        System.out.printf("Wrote aggregating recipes to %s%n", consolidatedRecipe.toAbsolutePath());
+    }
+
+    public static Map<Version, List<String>> recipesDefinedInCamelJar() throws IOException {
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            if (!entry.endsWith(".jar") || !entry.contains("camel-upgrade-recipes")) {
+                continue;
+            }
+            try (JarFile jar = new JarFile(entry)) {
+                Map<Version, List<String>> sortedByVersion = new TreeMap<>();
+                for (JarEntry jarEntry : Collections.list(jar.entries())) {
+                    String name = jarEntry.getName();
+                    if (!name.startsWith(RECIPES_PATH)) {
+                        continue;
+                    }
+                    String fileName = name.substring(RECIPES_PATH.length());
+                    if (!VERSIONED_DESCRIPTOR.matcher(fileName).matches()) {
+                        continue;
+                    }
+                    try (InputStream is = jar.getInputStream(jarEntry)) {
+                        String yaml = new String(is.readAllBytes(), StandardCharsets.UTF_8);
+                        sortedByVersion.computeIfAbsent(versionOf(fileName), v -> new ArrayList<>())
+                          .addAll(rootRecipeNames(yaml));
+                    }
+                }
+                return sortedByVersion;
+            }
+        }
+        return emptyMap();
+    }
+
+    /// The version a descriptor upgrades to. [Version#parse] only folds away a `.yaml` extension, so the extension
+    /// is dropped first, such that `4.4.yml` is not read as patch version `yml`.
+    static Version versionOf(String fileName) {
+        return Version.parse(fileName.substring(0, fileName.lastIndexOf('.')));
+    }
+
+    public static String renderYaml(Map<Version, List<String>> sortedByVersion) {
+        StringBuilder recipeYml = new StringBuilder();
+        recipeYml.append(GENERATED_MARKER).append('\n');
+
+        List<Version> versions = new ArrayList<>(sortedByVersion.keySet());
+        versions.sort(Version::compareTo);
+        Version prior = null;
+        for (Version current : versions) {
+            List<String> recipes = sortedByVersion.get(current);
+            if (recipes.isEmpty()) {
+                continue;
+            }
+            recipeYml.append(createRecipe(current, prior, recipes));
+            prior = current;
+        }
+        return recipeYml.toString();
+    }
+
+    /// Normalize recipe name for a given version
+    static String recipeNameFor(Version version) {
+        return "org.openrewrite.camel.MigrateToCamel_v%s_%s_%s".formatted(version.major(), version.minor(), version.patch());
+    }
+
+    /// Create a recipe that aggregates all the given recipes for a specific version, optionally including the prior version's recipe as well.
+    /// Gated on `camel-api` rather than `camel-core`, as every Camel 3 and 4 application depends on it, whereas
+    /// `camel-core` is only an optional bundle next to `camel-main` and the Spring Boot starters.
+    static String createRecipe(Version version, @Nullable Version priorVersion, List<String> recipeList) {
+        return
+          // language=YAML
+          """
+            ---
+            type: specs.openrewrite.org/v1beta/recipe
+            name: %s
+            displayName: Camel Updates Aggregate %s
+            description: Apache Camel upgrade recipes to upgrade your application to %s.
+            preconditions:
+              - org.openrewrite.java.dependencies.search.ModuleHasDependency:
+                  groupIdPattern: org.apache.camel
+                  artifactIdPattern: camel-api
+                  version: (,%s)
+            recipeList:%s
+              - %s
+
+            """.formatted(
+            recipeNameFor(version),
+            version,
+            version,
+            version,
+            priorVersion != null ? "\n  - " + recipeNameFor(priorVersion) : "",
+            String.join("\n  - ", recipeList));
+    }
+
+    /// The recipes defined in a descriptor that no other recipe in that same descriptor lists, such that
+    /// the aggregate runs the per-version entry point once, rather than again for each of its children.
+    static List<String> rootRecipeNames(String yaml) {
+        Set<String> referenced = referencedRecipeNames(yaml);
+        List<String> roots = new ArrayList<>();
+        for (String recipeName : definedRecipeNames(yaml)) {
+            if (!referenced.contains(recipeName)) {
+                roots.add(recipeName);
+            }
+        }
+        return List.copyOf(roots);
+    }
+}
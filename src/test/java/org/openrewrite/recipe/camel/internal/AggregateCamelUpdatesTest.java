@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.recipe.camel.internal;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.recipe.quarkus.internal.AggregateQuarkusUpdates.Version;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.recipe.camel.internal.AggregateCamelUpdates.*;
+
+class AggregateCamelUpdatesTest {
+
+    private static final Version v4_4 = new Version(4, 4, 0);
+    private static final Version v4_10_4 = new Version(4, 10, 4);
+
+    @Test
+    void recipesFoundOnClasspath() throws Exception {
+        assertThat(recipesDefinedInCamelJar())
+          .as("Expected to find versioned Camel upgrade recipes on the test classpath")
+          .isNotEmpty()
+          .allSatisfy((version, recipes) -> assertThat(recipes).doesNotHaveDuplicates());
+    }
+
+    @Test
+    void rootRecipesOnly() {
+        //language=YAML
+        String yaml = """
+          ---
+          type: specs.openrewrite.org/v1beta/recipe
+          name: org.apache.camel.upgrade.camel44.CamelMigrationRecipe
+          displayName: Migrates `camel 4.3` application to `camel 4.4`
+          recipeList:
+            - org.apache.camel.upgrade.camel44.Java
+            - org.apache.camel.upgrade.camel44.Properties
+          ---
+          type: specs.openrewrite.org/v1beta/recipe
+          name: org.apache.camel.upgrade.camel44.Java
+          recipeList:
+            - org.openrewrite.java.ChangeType:
+                oldFullyQualifiedTypeName: org.example.Old
+                newFullyQualifiedTypeName: org.example.New
+          ---
+          type: specs.openrewrite.org/v1beta/recipe
+          name: org.apache.camel.upgrade.camel44.Properties
+          recipeList:
+            - org.openrewrite.properties.ChangePropertyKey:
+                oldPropertyKey: camel.old
+                newPropertyKey: camel.new
+          ---
+          type: specs.openrewrite.org/v1beta/recipe
+          name: org.apache.camel.upgrade.camel44.Standalone
+          recipeList:
+            - org.openrewrite.java.RemoveUnusedImports
+          """;
+        assertThat(rootRecipeNames(yaml)).containsExactly(
+          "org.apache.camel.upgrade.camel44.CamelMigrationRecipe",
+          "org.apache.camel.upgrade.camel44.Standalone");
+    }
+
+    @Nested
+    class CreateRecipe {
+        @Test
+        void withPredecessor() {
+            String recipe = createRecipe(v4_10_4, v4_4, List.of("org.test.r1", "org.test.r2"));
+            assertThat(recipe)
+              //language=YAML
+              .isEqualTo("""
+                ---
+                type: specs.openrewrite.org/v1beta/recipe
+                name: org.openrewrite.camel.MigrateToCamel_v4_10_4
+                displayName: Camel Updates Aggregate 4.10.4
+                description: Apache Camel upgrade recipes to upgrade your application to 4.10.4.
+                preconditions:
+                  - org.openrewrite.java.dependencies.search.ModuleHasDependency:
+                      groupIdPattern: org.apache.camel
+                      artifactIdPattern: camel-api
+                      version: (,4.10.4)
+                recipeList:
+                  - org.openrewrite.camel.MigrateToCamel_v4_4_0
+                  - org.test.r1
+                  - org.test.r2
+
+                """);
+        }
+
+        @Test
+        void noPredecessor() {
+            String recipe = createRecipe(v4_4, null, List.of("org.test.r1"));
+            assertThat(recipe)
+              //language=YAML
+              .isEqualTo("""
+                ---
+                type: specs.openrewrite.org/v1beta/recipe
+                name: org.openrewrite.camel.MigrateToCamel_v4_4_0
+                displayName: Camel Updates Aggregate 4.4.0
+                description: Apache Camel upgrade recipes to upgrade your application to 4.4.0.
+                preconditions:
+                  - org.openrewrite.java.dependencies.search.ModuleHasDependency:
+                      groupIdPattern: org.apache.camel
+                      artifactIdPattern: camel-api
+                      version: (,4.4.0)
+                recipeList:
+                  - org.test.r1
+
+                """);
+        }
+    }
+
+    @Test
+    void versionOfEitherExtension() {
+        assertThat(versionOf("4.4.yaml")).isEqualTo(v4_4);
+        assertThat(versionOf("4.4.yml")).isEqualTo(v4_4);
+        assertThat(versionOf("4.10.4.yml")).isEqualTo(v4_10_4);
+    }
+
+    @Test
+    void nameGeneration() {
+        assertThat(recipeNameFor(v4_4)).isEqualTo("org.openrewrite.camel.MigrateToCamel_v4_4_0");
+        assertThat(recipeNameFor(v4_10_4)).isEqualTo("org.openrewrite.camel.MigrateToCamel_v4_10_4");
+    }
+
+    @Test
+    void versionsAreChained() {
+        String yaml = renderYaml(Map.of(
+          v4_10_4, List.of("org.test.r2"),
+          v4_4, List.of("org.test.r1"),
+          new Version(4, 5, 0), List.of()));
+        assertThat(yaml)
+          .startsWith(GENERATED_MARKER)
+          .contains("name: org.openrewrite.camel.MigrateToCamel_v4_4_0")
+          .contains("recipeList:\n  - org.openrewrite.camel.MigrateToCamel_v4_4_0\n  - org.test.r2")
+          .doesNotContain("MigrateToCamel_v4_5_0");
+    }
+}
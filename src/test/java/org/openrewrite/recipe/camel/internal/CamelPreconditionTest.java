@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.recipe.camel.internal;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.recipe.internal.BundledRecipes;
+import org.openrewrite.test.RecipeSpec;
+import org.openrewrite.test.RewriteTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.openrewrite.java.Assertions.mavenProject;
+import static org.openrewrite.maven.Assertions.pomXml;
+
+/// Verifies that the generated Camel aggregation recipes from
+/// `camel-consolidated.yml` do not run on projects whose
+/// `org.apache.camel:camel-api` version is at or above the recipe's target version.
+class CamelPreconditionTest implements RewriteTest {
+
+    @Override
+    public void defaults(RecipeSpec spec) {
+        spec.recipe(BundledRecipes.recipe("org.openrewrite.camel.MigrateToCamel_v4_4_0"));
+    }
+
+    /// Also depends on `javax.validation`: Camel 4 requires Jakarta EE, so the 4.0 stage, which every later stage
+    /// chains in, migrates it
+    private static String pomWithCamelBom(String bomVersion) {
+        //language=xml
+        return """
+          <project>
+              <modelVersion>4.0.0</modelVersion>
+              <groupId>com.example</groupId>
+              <artifactId>test</artifactId>
+              <version>1.0</version>
+              <dependencyManagement>
+                  <dependencies>
+                      <dependency>
+                          <groupId>org.apache.camel</groupId>
+                          <artifactId>camel-bom</artifactId>
+                          <version>%s</version>
+                          <type>pom</type>
+                          <scope>import</scope>
+                      </dependency>
+                  </dependencies>
+              </dependencyManagement>
+              <dependencies>
+                  <dependency>
+                      <groupId>org.apache.camel</groupId>
+                      <artifactId>camel-core</artifactId>
+                  </dependency>
+                  <dependency>
+                      <groupId>javax.validation</groupId>
+                      <artifactId>validation-api</artifactId>
+                      <version>2.0.1.Final</version>
+                  </dependency>
+              </dependencies>
+          </project>
+          """.formatted(bomVersion);
+    }
+
+    @Test
+    void doesNotRunWhenCamelVersionIsAtTarget() {
+        // A project on camel-bom 4.4.0 should NOT be modified,
+        // because the precondition version: (,4.4.0) excludes 4.4.0 itself.
+        rewriteRun(
+          mavenProject(
+            "project",
+            pomXml(pomWithCamelBom("4.4.0"))
+          )
+        );
+    }
+
+    @Test
+    void doesNotRunWhenCamelVersionIsAboveTarget() {
+        rewriteRun(
+          mavenProject(
+            "project",
+            pomXml(pomWithCamelBom("4.10.0"))
+          )
+        );
+    }
+
+    @Test
+    void runsWhenCamelVersionIsBelowTarget() {
+        rewriteRun(
+          mavenProject(
+            "project",
+            pomXml(
+              pomWithCamelBom("3.22.2"),
+              after -> after.after(pom -> assertThat(pom)
+                .doesNotContain("javax")
+                .contains("jakarta")
+                .actual())
+            )
+          )
+        );
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.recipe.internal;
+
+import org.jspecify.annotations.NullMarked;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.RecipeRun;
+import org.openrewrite.SourceFile;
+import org.openrewrite.config.Environment;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.maven.MavenParser;
+import org.openrewrite.properties.PropertiesParser;
+import org.openrewrite.recipe.quarkus.internal.AggregateQuarkusUpdates.Version;
+import org.openrewrite.yaml.YamlParser;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Supplier;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
+
+/// Runs the bundled aggregates over a [SyntheticCorpus] and reports throughput, peak heap and GC time.
+/// Everything is parsed against the type tables shipped in this module, so no network access is needed.
+///
+/// The corpus poms declare no Quarkus dependency, so the `MigrateToQuarkus_v3_*` numbers measure the cost
+/// of evaluating its version gates over a large repository, rather than that of the migration itself.
+@NullMarked
+public class AggregateThroughput {
+
+    private static final String QUARKUS_PREFIX = "org.openrewrite.quarkus.MigrateToQuarkus_v";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.out.println("Usage: java AggregateThroughput <corpus directory> [modules] [files per module]");
+            return;
+        }
+
+        Path root = Path.of(args[0]);
+        int modules = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int filesPerModule = args.length > 2 ? Integer.parseInt(args[2]) : 250;
+        List<Path> files = new SyntheticCorpus(42L, modules, filesPerModule).writeTo(root);
+        System.out.printf("Generated %d files in %s%n", files.size(), root.toAbsolutePath());
+
+        ExecutionContext ctx = new InMemoryExecutionContext(t -> System.err.println("Error: " + t.getMessage()));
+        List<SourceFile> sources = measure("parse", files.size(), () -> parse(root, files, ctx));
+
+        Environment environment = BundledRecipes.environment();
+        List<String> recipeNames = List.of(
+          "tech.picnic.errorprone.refasterrules.AllRefasterRules",
+          latestQuarkusAggregate(environment),
+          "sh.stubborn.contract.migration.MigrateFromSpringCloudContract");
+        for (String recipeName : recipeNames) {
+            Recipe recipe = environment.activateRecipes(recipeName);
+            RecipeRun run = measure(recipeName, sources.size(),
+              () -> recipe.run(new InMemoryLargeSourceSet(sources), new InMemoryExecutionContext()));
+            System.out.printf("\t%d files changed%n", run.getChangeset().getAllResults().size());
+        }
+    }
+
+    private static List<SourceFile> parse(Path root, List<Path> files, ExecutionContext ctx) {
+        List<SourceFile> sources = new ArrayList<>();
+        MavenParser.builder().build().parse(withExtension(files, ".xml"), root, ctx).forEach(sources::add);
+        JavaParser.fromJavaVersion()
+          .classpathFromResources(ctx, "assertj-core-3", "guava-33", "reactor-core-3", "reactive-streams-1")
+          .build()
+          .parse(withExtension(files, ".java"), root, ctx)
+          .forEach(sources::add);
+        new PropertiesParser().parse(withExtension(files, ".properties"), root, ctx).forEach(sources::add);
+        new YamlParser().parse(withExtension(files, ".yml"), root, ctx).forEach(sources::add);
+        return sources;
+    }
+
+    private static List<Path> withExtension(List<Path> files, String extension) {
+        return files.stream().filter(p -> p.getFileName().toString().endsWith(extension)).collect(toList());
+    }
+
+    private static <T> T measure(String label, int fileCount, Supplier<T> work) {
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+          .filter(pool -> pool.getType() == MemoryType.HEAP)
+          .collect(toList());
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        long gcBefore = gcTimeMillis();
+        long start = System.nanoTime();
+
+        T result = work.get();
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        System.out.printf("%s: %d files in %.1fs (%.0f files/sec), peak heap %d MB, GC %d ms%n",
+          label, fileCount, seconds, fileCount / seconds, peakHeap >> 20, gcTimeMillis() - gcBefore);
+        return result;
+    }
+
+    private static long gcTimeMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+
+    private static String latestQuarkusAggregate(Environment environment) {
+        return environment.listRecipes().stream()
+          .map(Recipe::getName)
+          .filter(name -> name.startsWith(QUARKUS_PREFIX))
+          .max(comparing(name -> Version.parse(name.substring(QUARKUS_PREFIX.length()).replace('_', '.'))))
+          .orElseThrow(() -> new IllegalStateException("No Quarkus aggregates found; is quarkus-consolidated.yml on the classpath?"));
+    }
+}
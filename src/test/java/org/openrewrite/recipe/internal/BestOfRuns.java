@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.recipe.internal;
+
+import org.jspecify.annotations.NullMarked;
+
+import java.lang.management.ManagementFactory;
+
+/// Measures a task on the current thread once it is warmed up, keeping the fastest time and the least allocation
+/// of the measured runs, as the slower ones mostly measure interference from elsewhere.
+@NullMarked
+public class BestOfRuns {
+
+    private BestOfRuns() {
+    }
+
+    public static Cost measure(int warmupRuns, int measuredRuns, Runnable task) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        for (int i = 0; i < warmupRuns; i++) {
+            task.run();
+        }
+
+        long bestNanos = Long.MAX_VALUE;
+        long bestBytes = Long.MAX_VALUE;
+        for (int i = 0; i < measuredRuns; i++) {
+            long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            task.run();
+            bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+            bestBytes = Math.min(bestBytes, threads.getThreadAllocatedBytes(threadId) - allocatedBefore);
+        }
+        return new Cost(bestNanos, bestBytes);
+    }
+
+    public record Cost(long nanos, long allocatedBytes) {
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.recipe.internal;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.Recipe;
+import org.openrewrite.config.Environment;
+import org.openrewrite.config.YamlResourceLoader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarFile;
+
+/// The recipes of this module as they are available from the shaded jar, for use on the test classpath.
+///
+/// Scanning the classpath and reading every Quarkus descriptor takes seconds, so the environment is built once
+/// per JVM and shared, including between tests that run in parallel. Like the classpath it was scanned from, it
+/// is not reloaded when the jars on it change.
+@NullMarked
+public class BundledRecipes {
+
+    private static final String QUARKUS_MARKER = "quarkus-updates/core/3.0.alpha1.yaml";
+
+    private static volatile @Nullable Snapshot snapshot;
+
+    private BundledRecipes() {
+    }
+
+    public static Environment environment() {
+        return snapshot().environment();
+    }
+
+    /// The named recipe, activated once and then shared by all callers
+    public static Recipe recipe(String recipeName) {
+        Snapshot current = snapshot();
+        return current.recipes().computeIfAbsent(recipeName, name -> current.environment().activateRecipes(name));
+    }
+
+    private static Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (BundledRecipes.class) {
+                current = snapshot;
+                if (current == null) {
+                    current = new Snapshot(load(quarkusJar()), new ConcurrentHashMap<>());
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /// Scan the runtime classpath, plus the Quarkus descriptors, which are only relocated to
+    /// `META-INF/rewrite` in the shaded jar, and so are not found by scanning the test classpath.
+    private static Environment load(@Nullable Path quarkusJar) {
+        try {
+            Environment.Builder builder = Environment.builder().scanRuntimeClasspath();
+            if (quarkusJar != null) {
+                try (var jar = new JarFile(quarkusJar.toFile())) {
+                    jar.stream()
+                      .filter(e -> e.getName().startsWith("quarkus-updates/") && e.getName().endsWith(".yaml"))
+                      .forEach(entry -> {
+                          try (InputStream is = jar.getInputStream(entry)) {
+                              builder.load(new YamlResourceLoader(
+                                is, URI.create(entry.getName()), new Properties(),
+                                (ClassLoader) null, List.of()));
+                          } catch (Exception e) {
+                              throw new RuntimeException(e);
+                          }
+                      });
+                }
+            }
+            return builder.build();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load the bundled recipes", e);
+        }
+    }
+
+    private static @Nullable Path quarkusJar() {
+        URL marker = BundledRecipes.class.getClassLoader().getResource(QUARKUS_MARKER);
+        if (marker == null) {
+            return null;
+        }
+        return Path.of(marker.getPath().substring("file:".length(), marker.getPath().indexOf("!")));
+    }
+
+    private record Snapshot(Environment environment, Map<String, Recipe> recipes) {
+    }
+}
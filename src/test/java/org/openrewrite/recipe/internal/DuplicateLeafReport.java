@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.recipe.internal;
+
+import org.jspecify.annotations.NullMarked;
+import org.openrewrite.DelegatingRecipe;
+import org.openrewrite.Recipe;
+import org.openrewrite.config.Environment;
+import org.openrewrite.config.OptionDescriptor;
+
+import java.util.*;
+
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.joining;
+
+/// Lists the leaf recipes that are reached more than once, with identical options, when the given recipes run
+/// together. Those are the whole-repository passes that the families shaded in here, such as the Quarkus
+/// `javax` to `jakarta` stages and rewrite-migrate-java, repeat for one another.
+///
+/// Only reports; whether a repeated leaf can be dropped also depends on the preconditions along each path.
+@NullMarked
+public class DuplicateLeafReport {
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.out.println("Usage: java DuplicateLeafReport <recipe name>...");
+            return;
+        }
+
+        Environment environment = BundledRecipes.environment();
+        Map<String, List<String>> pathsByLeaf = new TreeMap<>();
+        for (String recipeName : args) {
+            collectLeaves(environment.activateRecipes(recipeName), new ArrayDeque<>(), pathsByLeaf);
+        }
+        System.out.print(render(List.of(args), pathsByLeaf));
+    }
+
+    /// Record the path to every leaf below the given recipe, keyed by its canonical form
+    static void collectLeaves(Recipe recipe, Deque<String> path, Map<String, List<String>> pathsByLeaf) {
+        if (isPreconditionBellwether(recipe)) {
+            return;
+        }
+        path.addLast(unwrap(recipe).getName());
+        List<Recipe> recipeList = recipe.getRecipeList();
+        if (recipeList.isEmpty()) {
+            pathsByLeaf.computeIfAbsent(canonicalForm(recipe), k -> new ArrayList<>()).add(String.join(" > ", path));
+        } else {
+            for (Recipe child : recipeList) {
+                collectLeaves(child, path, pathsByLeaf);
+            }
+        }
+        path.removeLast();
+    }
+
+    /// The recipe name with its options sorted by name, such that equally configured leaves compare equal
+    static String canonicalForm(Recipe recipe) {
+        Recipe delegate = unwrap(recipe);
+        return delegate.getName() + delegate.getDescriptor().getOptions().stream()
+          .filter(option -> option.getValue() != null)
+          .sorted(comparing(OptionDescriptor::getName))
+          .map(option -> option.getName() + "=" + option.getValue())
+          .collect(joining(", ", " {", "}"));
+    }
+
+    /// The recipe behind any wrappers, such as those a `DeclarativeRecipe` with `preconditions` puts around each
+    /// entry of its recipe list to gate it
+    static Recipe unwrap(Recipe recipe) {
+        while (recipe instanceof DelegatingRecipe delegating) {
+            recipe = delegating.getDelegate();
+        }
+        return recipe;
+    }
+
+    /// A `DeclarativeRecipe` with `preconditions` evaluates them through an extra first entry in its recipe list,
+    /// which changes nothing itself. Its class is not public, hence the comparison by name.
+    static boolean isPreconditionBellwether(Recipe recipe) {
+        return "org.openrewrite.config.DeclarativeRecipe$PreconditionBellwether".equals(recipe.getClass().getName());
+    }
+
+    static String render(List<String> recipeNames, Map<String, List<String>> pathsByLeaf) {
+        int leaves = pathsByLeaf.values().stream().mapToInt(List::size).sum();
+        List<Map.Entry<String, List<String>>> duplicates = pathsByLeaf.entrySet().stream()
+          .filter(e -> e.getValue().size() > 1)
+          .sorted(Map.Entry.<String, List<String>>comparingByValue(comparing(List::size)).reversed())
+          .toList();
+
+        StringBuilder report = new StringBuilder();
+        report.append("Composing %s reaches %d leaf recipes, %d distinct, %d redundant%n".formatted(
+          String.join(", ", recipeNames), leaves, pathsByLeaf.size(), leaves - pathsByLeaf.size()));
+        for (Map.Entry<String, List<String>> duplicate : duplicates) {
+            report.append("%n%dx %s%n".formatted(duplicate.getValue().size(), duplicate.getKey()));
+            for (String path : duplicate.getValue()) {
+                report.append("    via ").append(path).append('\n');
+            }
+        }
+        return report.toString();
+    }
+}
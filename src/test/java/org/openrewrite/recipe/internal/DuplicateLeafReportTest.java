@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.recipe.internal;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.config.Environment;
+import org.openrewrite.config.YamlResourceLoader;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DuplicateLeafReportTest {
+
+    @Test
+    void reportsLeavesReachedTwiceWithTheSameOptions() {
+        //language=YAML
+        String yaml = """
+          ---
+          type: specs.openrewrite.org/v1beta/recipe
+          name: org.test.QuarkusJakarta
+          recipeList:
+            - org.openrewrite.java.ChangePackage:
+                oldPackageName: javax.annotation
+                newPackageName: jakarta.annotation
+            - org.openrewrite.java.ChangePackage:
+                oldPackageName: javax.inject
+                newPackageName: jakarta.inject
+          ---
+          type: specs.openrewrite.org/v1beta/recipe
+          name: org.test.WicketJakarta
+          recipeList:
+            - org.openrewrite.java.ChangePackage:
+                newPackageName: jakarta.annotation
+                oldPackageName: javax.annotation
+          """;
+        Environment environment = Environment.builder()
+          .load(new YamlResourceLoader(
+            new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)), URI.create("test.yml"), new Properties()))
+          .build();
+
+        Map<String, List<String>> pathsByLeaf = new TreeMap<>();
+        for (String recipeName : List.of("org.test.QuarkusJakarta", "org.test.WicketJakarta")) {
+            DuplicateLeafReport.collectLeaves(environment.activateRecipes(recipeName), new ArrayDeque<>(), pathsByLeaf);
+        }
+
+        assertThat(pathsByLeaf).hasSize(2);
+        assertThat(DuplicateLeafReport.render(List.of("org.test.QuarkusJakarta", "org.test.WicketJakarta"), pathsByLeaf))
+          .startsWith("Composing org.test.QuarkusJakarta, org.test.WicketJakarta reaches 3 leaf recipes, 2 distinct, 1 redundant")
+          .contains("2x org.openrewrite.java.ChangePackage {newPackageName=jakarta.annotation, oldPackageName=javax.annotation}")
+          .contains("via org.test.QuarkusJakarta > org.openrewrite.java.ChangePackage")
+          .contains("via org.test.WicketJakarta > org.openrewrite.java.ChangePackage")
+          .doesNotContain("javax.inject");
+    }
+
+    @Test
+    void skipsPreconditionsAndLooksThroughTheirWrappers() {
+        //language=YAML
+        String yaml = """
+          ---
+          type: specs.openrewrite.org/v1beta/recipe
+          name: org.test.MigrateToQuarkus_v3_0_0
+          preconditions:
+            - org.openrewrite.FindSourceFiles:
+                filePattern: '**/pom.xml'
+          recipeList:
+            - org.openrewrite.java.ChangePackage:
+                oldPackageName: javax.annotation
+                newPackageName: jakarta.annotation
+          ---
+          type: specs.openrewrite.org/v1beta/recipe
+          name: org.test.MigrateToQuarkus_v3_1_0
+          preconditions:
+            - org.openrewrite.FindSourceFiles:
+                filePattern: '**/pom.xml'
+          recipeList:
+            - org.test.MigrateToQuarkus_v3_0_0
+            - org.openrewrite.java.ChangePackage:
+                oldPackageName: javax.annotation
+                newPackageName: jakarta.annotation
+          """;
+        Environment environment = Environment.builder()
+          .load(new YamlResourceLoader(
+            new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)), URI.create("test.yml"), new Properties()))
+          .build();
+
+        Map<String, List<String>> pathsByLeaf = new TreeMap<>();
+        DuplicateLeafReport.collectLeaves(
+          environment.activateRecipes("org.test.MigrateToQuarkus_v3_1_0"), new ArrayDeque<>(), pathsByLeaf);
+
+        assertThat(pathsByLeaf).containsOnlyKeys(
+          "org.openrewrite.java.ChangePackage {newPackageName=jakarta.annotation, oldPackageName=javax.annotation}");
+        assertThat(DuplicateLeafReport.render(List.of("org.test.MigrateToQuarkus_v3_1_0"), pathsByLeaf))
+          .startsWith("Composing org.test.MigrateToQuarkus_v3_1_0 reaches 2 leaf recipes, 1 distinct, 1 redundant")
+          .contains("via org.test.MigrateToQuarkus_v3_1_0 > org.test.MigrateToQuarkus_v3_0_0 > org.openrewrite.java.ChangePackage")
+          .contains("via org.test.MigrateToQuarkus_v3_1_0 > org.openrewrite.java.ChangePackage")
+          .doesNotContain("Bellwether")
+          .doesNotContain("FindSourceFiles");
+    }
+}
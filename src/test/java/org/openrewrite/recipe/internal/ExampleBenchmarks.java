@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.recipe.internal;
+
+import org.jspecify.annotations.NullMarked;
+import org.jspecify.annotations.Nullable;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.Result;
+import org.openrewrite.SourceFile;
+import org.openrewrite.config.RecipeExample;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.internal.parser.TypeTable;
+import org.openrewrite.java.internal.parser.TypeTableIndex;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static java.util.stream.Collectors.toList;
+
+/// Parses and runs the `before` of every example in this module's `examples.yml` through its recipe, reporting
+/// the latency of its first run, and the latency and allocation of a warmed up run. Each result is compared with
+/// the recorded `after`, so an example that no longer holds fails the benchmark, as does a recipe listed in
+/// `examples.yml` that has no Java example to measure.
+///
+/// Only the first example measured runs on a truly cold JVM. Later examples share the JIT compiled code and
+/// loaded classes of the parser and recipe infrastructure, so their first run only includes what is specific to
+/// that example, such as its recipe and the classpath of its parser.
+///
+/// Parsers only get the `classpathFromResources` entries that provide the types an example imports.
+@NullMarked
+public class ExampleBenchmarks {
+
+    private static final Path EXAMPLES = Path.of("src/main/resources/META-INF/rewrite/examples.yml");
+    private static final Pattern RECIPE_NAME = Pattern.compile("(?m)^recipeName: ([.\\w]+)\\s*$");
+
+    private static final int WARMUP_RUNS = 20;
+    private static final int MEASURED_RUNS = 10;
+
+    public static void main(String[] args) throws Exception {
+        Set<String> recipeNames = new TreeSet<>(recipeNames(Files.readString(EXAMPLES)));
+        recipeNames.addAll(List.of(args));
+        TypeTableIndex index = TypeTableIndex.read(List.of(
+          Path.of("src", "main", "resources").resolve(TypeTable.DEFAULT_RESOURCE_PATH),
+          Path.of("src", "test", "resources").resolve(TypeTable.DEFAULT_RESOURCE_PATH)));
+
+        int mismatches = 0;
+        List<String> unmeasured = new ArrayList<>();
+        System.out.printf("%10s %10s %10s  %s%n", "first ms", "warm us", "warm KB", "example");
+        for (String recipeName : recipeNames) {
+            Recipe recipe = BundledRecipes.recipe(recipeName);
+            int measured = 0;
+            for (RecipeExample example : recipe.getDescriptor().getExamples()) {
+                for (RecipeExample.Source source : example.getSources()) {
+                    String label = recipeName + " " + example.getDescription();
+                    if (!"java".equals(source.getLanguage())) {
+                        System.out.printf("%32s  %s (skipped, %s)%n", "", label, source.getLanguage());
+                        continue;
+                    }
+                    Measurement measurement = measure(recipe, source, index);
+                    measured++;
+                    System.out.printf("%10.1f %10.1f %10d  %s%s%n",
+                      measurement.firstNanos() / 1e6, measurement.warmNanos() / 1e3, measurement.warmBytes() >> 10,
+                      label, measurement.matches() ? "" : " (MISMATCH)");
+                    if (!measurement.matches()) {
+                        mismatches++;
+                    }
+                }
+            }
+            if (measured == 0) {
+                unmeasured.add(recipeName);
+            }
+        }
+
+        if (!unmeasured.isEmpty()) {
+            // Otherwise examples that are no longer attached to their recipe would pass unnoticed
+            System.err.println("No Java examples to measure for " + String.join(", ", unmeasured));
+        }
+        if (mismatches > 0) {
+            System.err.println(mismatches + " examples no longer produce their recorded `after`");
+        }
+        if (!unmeasured.isEmpty() || mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    static List<String> recipeNames(String examplesYaml) {
+        List<String> recipeNames = new ArrayList<>();
+        Matcher matcher = RECIPE_NAME.matcher(examplesYaml);
+        while (matcher.find()) {
+            recipeNames.add(matcher.group(1));
+        }
+        return recipeNames;
+    }
+
+    private static Measurement measure(Recipe recipe, RecipeExample.Source source, TypeTableIndex index) {
+        ExecutionContext ctx = new InMemoryExecutionContext(t -> System.err.println("Error: " + t.getMessage()));
+        JavaParser.Builder<?, ?> parser = JavaParser.fromJavaVersion()
+          .classpathFromResources(ctx, index.classpathResourcesImportedBy(source.getBefore()).toArray(new String[0]));
+
+        long start = System.nanoTime();
+        String after = parseAndRun(recipe, parser, source.getBefore());
+        long firstNanos = System.nanoTime() - start;
+
+        BestOfRuns.Cost warm = BestOfRuns.measure(WARMUP_RUNS, MEASURED_RUNS, () -> parseAndRun(recipe, parser, source.getBefore()));
+
+        String expected = source.getAfter() == null ? source.getBefore() : source.getAfter();
+        return new Measurement(firstNanos, warm.nanos(), warm.allocatedBytes(), expected.equals(after));
+    }
+
+    /// @return The source as the recipe leaves it
+    private static String parseAndRun(Recipe recipe, JavaParser.Builder<?, ?> parser, String before) {
+        ExecutionContext ctx = new InMemoryExecutionContext(t -> System.err.println("Error: " + t.getMessage()));
+        List<SourceFile> sources = parser.build().parse(ctx, before).collect(toList());
+        List<Result> results = recipe.run(new InMemoryLargeSourceSet(sources), ctx).getChangeset().getAllResults();
+        @Nullable SourceFile after = results.isEmpty() ? sources.get(0) : results.get(0).getAfter();
+        return after == null ? "" : after.printAll();
+    }
+
+    private record Measurement(long firstNanos, long warmNanos, long warmBytes, boolean matches) {
+    }
+}
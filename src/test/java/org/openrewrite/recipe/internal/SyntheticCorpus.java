@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.recipe.internal;
+
+import org.jspecify.annotations.NullMarked;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/// Writes a multi-module Maven project of generated Java, properties and YAML sources, using the AssertJ,
+/// Reactor, Guava and Spring Cloud Contract idioms the bundled aggregates rewrite, all of which resolve against
+/// the type tables that `AggregateThroughput` parses with.
+/// The same seed and size always produce byte-identical files, such that runs can be compared.
+///
+/// The modules only depend on each other, so that the poms resolve without access to a remote repository.
+@NullMarked
+public class SyntheticCorpus {
+
+    private static final List<Idiom> JAVA_IDIOMS = List.of(
+      new Idiom("import static org.assertj.core.api.Assertions.assertThat;",
+        "void check(String actual) {\n        assertThat(actual).isEqualTo(\"\");\n    }"),
+      new Idiom("import static org.assertj.core.api.Assertions.assertThat;\nimport java.util.List;",
+        "void checkSize(List<String> actual) {\n        assertThat(actual.size()).isEqualTo(0);\n    }"),
+      new Idiom("import java.util.Objects;",
+        "String describe(Object object) {\n        return Objects.toString(object);\n    }"),
+      new Idiom("import reactor.core.publisher.Mono;",
+        "Mono<String> lookup(String key) {\n        return Mono.just(key).flatMap(Mono::just);\n    }"),
+      new Idiom("import reactor.core.publisher.Flux;\nimport java.util.List;",
+        "Flux<String> stream(List<String> keys) {\n        return Flux.fromIterable(keys).flatMap(Flux::just);\n    }"),
+      new Idiom("import com.google.common.collect.ImmutableList;",
+        "ImmutableList<String> empty() {\n        return ImmutableList.<String>builder().build();\n    }"),
+      new Idiom("import com.google.common.base.Preconditions;",
+        "String require(String value) {\n        return Preconditions.checkNotNull(value);\n    }"),
+      new Idiom("import java.util.List;",
+        "int count(List<String> values) {\n        return values.size();\n    }")
+    );
+
+    private final long seed;
+    private final int modules;
+    private final int filesPerModule;
+
+    public SyntheticCorpus(long seed, int modules, int filesPerModule) {
+        this.seed = seed;
+        this.modules = modules;
+        this.filesPerModule = filesPerModule;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.out.println("Usage: java SyntheticCorpus <output directory> <modules> <files per module> [seed]");
+            return;
+        }
+        SyntheticCorpus corpus = new SyntheticCorpus(
+          args.length > 3 ? Long.parseLong(args[3]) : 42L,
+          Integer.parseInt(args[1]),
+          Integer.parseInt(args[2]));
+        List<Path> written = corpus.writeTo(Path.of(args[0]));
+        System.out.printf("Wrote %d files to %s%n", written.size(), Path.of(args[0]).toAbsolutePath());
+    }
+
+    /// Write the corpus below the given directory, returning the written files in a stable order.
+    public List<Path> writeTo(Path root) throws IOException {
+        Random random = new Random(seed);
+        List<Path> written = new ArrayList<>();
+        written.add(write(root.resolve("pom.xml"), rootPom()));
+        for (int m = 0; m < modules; m++) {
+            String module = moduleName(m);
+            Path moduleDir = root.resolve(module);
+            written.add(write(moduleDir.resolve("pom.xml"), modulePom(m)));
+
+            String packageName = "com.example." + module.replace("-", "");
+            Path javaDir = moduleDir.resolve("src/main/java").resolve(packageName.replace('.', '/'));
+            Path resourcesDir = moduleDir.resolve("src/main/resources");
+            for (int f = 0; f < filesPerModule; f++) {
+                if (f % 10 == 8) {
+                    written.add(write(resourcesDir.resolve("application-" + f + ".properties"), properties(random)));
+                } else if (f % 10 == 9) {
+                    written.add(write(resourcesDir.resolve("application-" + f + ".yml"), yaml(random)));
+                } else {
+                    String className = "Generated" + f;
+                    written.add(write(javaDir.resolve(className + ".java"), javaSource(random, packageName, className)));
+                }
+            }
+        }
+        return written;
+    }
+
+    private static Path write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+        return file;
+    }
+
+    private static String moduleName(int index) {
+        return "module-%03d".formatted(index);
+    }
+
+    private String rootPom() {
+        StringBuilder moduleList = new StringBuilder();
+        for (int m = 0; m < modules; m++) {
+            moduleList.append("        <module>").append(moduleName(m)).append("</module>\n");
+        }
+        //language=xml
+        return """
+          <project>
+              <modelVersion>4.0.0</modelVersion>
+              <groupId>com.example</groupId>
+              <artifactId>corpus</artifactId>
+              <version>1.0</version>
+              <packaging>pom</packaging>
+              <modules>
+          %s    </modules>
+          </project>
+          """.formatted(moduleList);
+    }
+
+    private static String modulePom(int index) {
+        String dependency = index == 0 ? "" :
+          """
+                <dependencies>
+                    <dependency>
+                        <groupId>com.example</groupId>
+                        <artifactId>%s</artifactId>
+                        <version>1.0</version>
+                    </dependency>
+                </dependencies>
+            """.formatted(moduleName(index - 1));
+        //language=xml
+        return """
+          <project>
+              <modelVersion>4.0.0</modelVersion>
+              <parent>
+                  <groupId>com.example</groupId>
+                  <artifactId>corpus</artifactId>
+                  <version>1.0</version>
+              </parent>
+              <artifactId>%s</artifactId>
+          %s</project>
+          """.formatted(moduleName(index), dependency);
+    }
+
+    private static String javaSource(Random random, String packageName, String className) {
+        // Every class combines a few idioms, such that each file matches some, but not all, rule collections
+        List<Idiom> idioms = new ArrayList<>();
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            Idiom idiom = JAVA_IDIOMS.get(random.nextInt(JAVA_IDIOMS.size()));
+            if (!idioms.contains(idiom)) {
+                idioms.add(idiom);
+            }
+        }
+
+        StringBuilder imports = new StringBuilder();
+        StringBuilder members = new StringBuilder();
+        for (Idiom idiom : idioms) {
+            for (String importLine : idiom.imports().split("\n")) {
+                if (imports.indexOf(importLine) == -1) {
+                    imports.append(importLine).append('\n');
+                }
+            }
+            members.append("\n    ").append(idiom.member()).append('\n');
+        }
+        return "package %s;\n\n%s\nclass %s {%s}\n".formatted(packageName, imports, className, members);
+    }
+
+    private static String properties(Random random) {
+        return """
+          spring.cloud.contract.stubrunner.ids=com.example:service-%d:+:stubs:8080
+          spring.cloud.contract.stubrunner.stubs-mode=LOCAL
+          server.port=%d
+          """.formatted(random.nextInt(100), 8000 + random.nextInt(1000));
+    }
+
+    private static String yaml(Random random) {
+        //language=yaml
+        return """
+          spring:
+            cloud:
+              contract:
+                stubrunner:
+                  stubs-mode: LOCAL
+          server:
+            port: %d
+          """.formatted(8000 + random.nextInt(1000));
+    }
+
+    private record Idiom(String imports, String member) {
+    }
+}
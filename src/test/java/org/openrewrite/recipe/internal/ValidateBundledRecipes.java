@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.recipe.internal;
+
+import org.jspecify.annotations.NullMarked;
+import org.openrewrite.Recipe;
+import org.openrewrite.Validated;
+import org.openrewrite.config.DeclarativeRecipe;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingLong;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.summarizingLong;
+import static org.openrewrite.recipe.internal.DuplicateLeafReport.isPreconditionBellwether;
+import static org.openrewrite.recipe.internal.DuplicateLeafReport.unwrap;
+
+/// Validates every recipe bundled in this module, along with every recipe they list or use as a precondition,
+/// such as each `ModuleHasDependency` version range, and reports those that fail along with the recipes that
+/// take longest to validate. Validation is where option values such as method patterns are parsed and compiled,
+/// so it covers the matcher cost a run pays before visiting its first file.
+///
+/// Each recipe instance is validated once, on its own, so its time excludes that of the recipes it lists, and the
+/// times of all instances of a recipe are added up. By default they are measured on a single thread; with more,
+/// they also include waiting on one another, and only rank the recipes roughly.
+@NullMarked
+public class ValidateBundledRecipes {
+
+    private static final int SLOWEST = 50;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.out.println("Usage: java ValidateBundledRecipes <report file> [<threads>]");
+            return;
+        }
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 1;
+
+        long start = System.nanoTime();
+        List<Recipe> recipes = BundledRecipes.environment().listRecipes();
+        long loadNanos = System.nanoTime() - start;
+
+        List<RecipeCost> costs = measure(recipes, threads);
+        String report = render(loadNanos, recipes.size(), threads, costs);
+        Path reportFile = Path.of(args[0]);
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        Files.writeString(reportFile, report);
+        System.out.print(report.substring(0, report.indexOf('\n') + 1));
+        System.out.printf("Wrote report to %s%n", reportFile.toAbsolutePath());
+    }
+
+    /// Validate every distinct recipe instance reachable from the given recipes
+    static List<RecipeCost> measure(Collection<Recipe> recipes, int threads) throws InterruptedException {
+        // Recipes listed by another are attributed to the first top-level recipe they are reached from
+        Map<Recipe, String> reachedFrom = new IdentityHashMap<>();
+        for (Recipe recipe : recipes) {
+            reachedFrom.putIfAbsent(unwrap(recipe), recipe.getName());
+        }
+        for (Recipe recipe : recipes) {
+            collect(recipe, recipe.getName(), reachedFrom);
+        }
+
+        if (threads == 1) {
+            List<RecipeCost> costs = new ArrayList<>(reachedFrom.size());
+            reachedFrom.forEach((recipe, root) -> costs.add(measure(recipe, root)));
+            return costs;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<RecipeCost>> futures = new ArrayList<>(reachedFrom.size());
+            reachedFrom.forEach((recipe, root) -> futures.add(executor.submit(() -> measure(recipe, root))));
+            List<RecipeCost> costs = new ArrayList<>(futures.size());
+            for (Future<RecipeCost> future : futures) {
+                costs.add(future.get());
+            }
+            return costs;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to measure a recipe", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void collect(Recipe recipe, String root, Map<Recipe, String> reachedFrom) {
+        List<Recipe> children = new ArrayList<>(recipe.getRecipeList());
+        // The bellwether that evaluates the preconditions lists none of them, so they are reached from here
+        if (unwrap(recipe) instanceof DeclarativeRecipe declarative) {
+            children.addAll(declarative.getPreconditions());
+        }
+        for (Recipe child : children) {
+            Recipe delegate = unwrap(child);
+            if (!isPreconditionBellwether(delegate) && !reachedFrom.containsKey(delegate)) {
+                reachedFrom.put(delegate, root);
+                collect(child, root, reachedFrom);
+            }
+        }
+    }
+
+    /// Validate just the recipe's own options, not those of the recipes it lists, which are measured separately
+    private static RecipeCost measure(Recipe recipe, String reachedFrom) {
+        List<String> failures = new ArrayList<>();
+        long start = System.nanoTime();
+        try {
+            Validated<Object> validated = recipe.validate();
+            for (Validated.Invalid<Object> failure : validated.failures()) {
+                failures.add(failure.getProperty() + ": " + failure.getMessage());
+            }
+        } catch (Exception e) {
+            failures.add("validation: " + e);
+        }
+        return new RecipeCost(recipe.getName(), reachedFrom, System.nanoTime() - start, failures);
+    }
+
+    static String render(long loadNanos, int recipeCount, int threads, List<RecipeCost> costs) {
+        List<RecipeCost> failed = costs.stream()
+          .filter(cost -> !cost.failures().isEmpty())
+          .sorted(comparing(RecipeCost::name).thenComparing(RecipeCost::reachedFrom))
+          .toList();
+
+        StringBuilder report = new StringBuilder();
+        report.append("Loaded %d recipes in %d ms, validated the %d recipe instances they reach, %d failed%n".formatted(
+          recipeCount, loadNanos / 1_000_000, costs.size(), failed.size()));
+        for (RecipeCost cost : failed) {
+            report.append("%n%s, reached from %s%n".formatted(cost.name(), cost.reachedFrom()));
+            for (String failure : cost.failures()) {
+                report.append("    ").append(failure).append('\n');
+            }
+        }
+
+        report.append("%nSlowest to validate on their own, in total ms, instances, mean us%n".formatted());
+        if (threads > 1) {
+            report.append("(validated on %d threads at once, so the times include contention)%n".formatted(threads));
+        }
+        costs.stream()
+          .collect(groupingBy(RecipeCost::name, summarizingLong(RecipeCost::selfNanos)))
+          .entrySet().stream()
+          .sorted(Map.Entry.<String, LongSummaryStatistics>comparingByValue(comparingLong(LongSummaryStatistics::getSum))
+            .reversed()
+            .thenComparing(Map.Entry.comparingByKey()))
+          .limit(SLOWEST)
+          .forEach(entry -> {
+              LongSummaryStatistics selfNanos = entry.getValue();
+              report.append("%8.1f %8d %8.1f  %s%n".formatted(
+                selfNanos.getSum() / 1e6, selfNanos.getCount(), selfNanos.getAverage() / 1e3, entry.getKey()));
+          });
+        return report.toString();
+    }
+
+    /// @param reachedFrom The top-level recipe this instance was first reached from, or its own name
+    record RecipeCost(String name, String reachedFrom, long selfNanos, List<String> failures) {
+    }
+}
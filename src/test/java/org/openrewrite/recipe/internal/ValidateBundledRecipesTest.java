@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.recipe.internal;
+
+import org.junit.jupiter.api.Test;
+import org.openrewrite.config.Environment;
+import org.openrewrite.config.YamlResourceLoader;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidateBundledRecipesTest {
+
+    @Test
+    void reportsRecipesFailingValidation() throws InterruptedException {
+        //language=YAML
+        String yaml = """
+          ---
+          type: specs.openrewrite.org/v1beta/recipe
+          name: org.test.Valid
+          recipeList:
+            - org.openrewrite.java.ChangePackage:
+                oldPackageName: javax.inject
+                newPackageName: jakarta.inject
+          ---
+          type: specs.openrewrite.org/v1beta/recipe
+          name: org.test.MissingOption
+          recipeList:
+            - org.openrewrite.java.ChangePackage:
+                oldPackageName: javax.annotation
+          """;
+        Environment environment = environment(yaml);
+
+        List<ValidateBundledRecipes.RecipeCost> costs = ValidateBundledRecipes.measure(
+          List.of(environment.activateRecipes("org.test.Valid"), environment.activateRecipes("org.test.MissingOption")), 1);
+
+        assertThat(costs).extracting(ValidateBundledRecipes.RecipeCost::name)
+          .containsExactlyInAnyOrder("org.test.Valid", "org.test.MissingOption",
+            "org.openrewrite.java.ChangePackage", "org.openrewrite.java.ChangePackage");
+        assertThat(ValidateBundledRecipes.render(0, 2, 1, costs))
+          .startsWith("Loaded 2 recipes in 0 ms, validated the 4 recipe instances they reach, 1 failed")
+          .containsPattern("\norg.openrewrite.java.ChangePackage, reached from org.test.MissingOption\n    .*newPackageName")
+          .containsPattern(" 2 +[\\d.]+  org.openrewrite.java.ChangePackage\n")
+          .doesNotContain("contention");
+    }
+
+    @Test
+    void walksThroughPreconditions() throws InterruptedException {
+        //language=YAML
+        String yaml = """
+          ---
+          type: specs.openrewrite.org/v1beta/recipe
+          name: org.test.Gated
+          preconditions:
+            - org.openrewrite.java.search.FindTypes:
+                fullyQualifiedTypeName: javax.inject.Inject
+          recipeList:
+            - org.openrewrite.java.ChangePackage:
+                oldPackageName: javax.inject
+                newPackageName: jakarta.inject
+          """;
+        Environment environment = environment(yaml);
+
+        List<ValidateBundledRecipes.RecipeCost> costs = ValidateBundledRecipes.measure(
+          List.of(environment.activateRecipes("org.test.Gated")), 2);
+
+        assertThat(costs).extracting(ValidateBundledRecipes.RecipeCost::name)
+          .contains("org.test.Gated", "org.openrewrite.java.ChangePackage", "org.openrewrite.java.search.FindTypes")
+          .noneMatch(name -> name.contains("Bellwether"));
+        assertThat(costs).extracting(ValidateBundledRecipes.RecipeCost::reachedFrom).containsOnly("org.test.Gated");
+        assertThat(ValidateBundledRecipes.render(0, 1, 2, costs)).contains("on 2 threads at once");
+    }
+
+    private static Environment environment(String yaml) {
+        return Environment.builder()
+          .load(new YamlResourceLoader(
+            new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)), URI.create("test.yml"), new Properties()))
+          .build();
+    }
+}
@@ -22,10 +22,13 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.jar.JarFile;
 import java.util.zip.ZipEntry;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.stream.Collectors.toList;
 
 @NullMarked
@@ -36,7 +39,7 @@ public class GeneratePicnicAggregation {
 
     public static void main(String[] args) throws IOException {
         if (args.length < 1) {
-            System.out.println("Usage: java GeneratePicnicAggregation <path to picnic.yml>");
+            System.out.println("Usage: java GeneratePicnicAggregation <path to picnic.yml> [path to cost catalog] [budget in ns/file]");
             return;
         }
 
@@ -46,8 +49,10 @@ public class GeneratePicnicAggregation {
             throw new IllegalStateException(
               "No Picnic *RulesRecipes classes found on the classpath; ensure error-prone-contrib:recipes is a dependency.");
         }
+        Map<String, RuleCost> costs = args.length > 1 ? readCostCatalog(Path.of(args[1])) : emptyMap();
+        long budget = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_BUDGET_NANOS_PER_FILE;
 
-        Files.writeString(target, renderYaml(recipes));
+        Files.writeString(target, renderYaml(recipes, costs, budget));
         System.out.printf("Wrote %d Picnic Refaster rule collections to %s%n", recipes.size(), target.toAbsolutePath());
     }
 
@@ -71,9 +76,18 @@ public class GeneratePicnicAggregation {
         return emptyList();
     }
 
+    static final Path COST_CATALOG = Path.of("src/test/resources/picnic-rule-costs.tsv");
+    static final long DEFAULT_BUDGET_NANOS_PER_FILE = 50_000;
+
     static final String GENERATED_MARKER = "# This file is auto-generated by running `./gradlew generatePicnicAggregation`.";
 
     public static String renderYaml(List<String> recipes) {
+        return renderYaml(recipes, emptyMap(), DEFAULT_BUDGET_NANOS_PER_FILE);
+    }
+
+    /// Render the aggregate of all rule collections, annotated with their measured cost if there is one. Given
+    /// a cost catalog, also render `AllRefasterRulesFast`, of the measured collections within the budget.
+    public static String renderYaml(List<String> recipes, Map<String, RuleCost> costs, long budgetNanosPerFile) {
         StringBuilder sb = new StringBuilder();
         sb.append(GENERATED_MARKER).append('\n');
         sb.append("""
@@ -85,8 +99,52 @@ public class GeneratePicnicAggregation {
                 recipeList:
                 """);
         for (String recipe : recipes) {
-            sb.append("  - ").append(recipe).append('\n');
+            sb.append("  - ").append(recipe);
+            RuleCost cost = costs.get(recipe);
+            if (cost != null) {
+                sb.append(" # ").append(cost.nanosPerFile()).append(" ns/file, ").append(cost.bytesPerFile()).append(" B/file");
+            }
+            sb.append('\n');
+        }
+
+        if (!costs.isEmpty()) {
+            sb.append("""
+                    ---
+                    type: specs.openrewrite.org/v1beta/recipe
+                    name: tech.picnic.errorprone.refasterrules.AllRefasterRulesFast
+                    displayName: Fast Picnic Refaster rules
+                    description: >-
+                      The Picnic Refaster rule collections that took at most %d ns per file on the Refaster test inputs
+                      of error-prone-support, cheap enough to run on every change, leaving the full `AllRefasterRules`
+                      for scheduled runs.
+                    recipeList:
+                    """.formatted(budgetNanosPerFile));
+            for (String recipe : recipes) {
+                RuleCost cost = costs.get(recipe);
+                if (cost != null && cost.nanosPerFile() <= budgetNanosPerFile) {
+                    sb.append("  - ").append(recipe).append('\n');
+                }
+            }
         }
         return sb.toString();
     }
+
+    /// Read the catalog written by `PicnicRuleCosts`, or an empty one if it has not been measured yet
+    public static Map<String, RuleCost> readCostCatalog(Path catalog) throws IOException {
+        if (!Files.exists(catalog)) {
+            return emptyMap();
+        }
+        Map<String, RuleCost> costs = new TreeMap<>();
+        for (String line : Files.readAllLines(catalog)) {
+            if (line.isBlank() || line.startsWith("#") || line.startsWith("recipe\t")) {
+                continue;
+            }
+            String[] columns = line.split("\t");
+            costs.put(columns[0], new RuleCost(Long.parseLong(columns[1]), Long.parseLong(columns[2])));
+        }
+        return costs;
+    }
+
+    public record RuleCost(long nanosPerFile, long bytesPerFile) {
+    }
 }
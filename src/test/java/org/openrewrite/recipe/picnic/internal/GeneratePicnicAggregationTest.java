@@ -20,12 +20,16 @@ import org.junit.jupiter.api.Test;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class GeneratePicnicAggregationTest {
 
     private static final Path PICNIC_YML = Path.of("src/main/resources/META-INF/rewrite/picnic.yml");
+    private static final Pattern FAST_BUDGET = Pattern.compile("took at most (\\d+) ns per file");
 
     @Test
     void picnicYmlMatchesPicnicJarContents() throws Exception {
@@ -34,8 +38,12 @@ class GeneratePicnicAggregationTest {
           .as("Expected to find Picnic *RulesRecipes classes on the test classpath")
           .isNotEmpty();
 
-        String expected = GeneratePicnicAggregation.renderYaml(recipes);
         String fileContent = Files.readString(PICNIC_YML);
+        Matcher budget = FAST_BUDGET.matcher(fileContent);
+        String expected = GeneratePicnicAggregation.renderYaml(
+          recipes,
+          GeneratePicnicAggregation.readCostCatalog(GeneratePicnicAggregation.COST_CATALOG),
+          budget.find() ? Long.parseLong(budget.group(1)) : GeneratePicnicAggregation.DEFAULT_BUDGET_NANOS_PER_FILE);
         int generatedStart = fileContent.indexOf(GeneratePicnicAggregation.GENERATED_MARKER);
         assertThat(generatedStart)
           .as("%s is missing the generator marker; run `./gradlew generatePicnicAggregation` to regenerate.", PICNIC_YML)
@@ -44,4 +52,38 @@ class GeneratePicnicAggregationTest {
           .as("%s is out of sync with the Picnic error-prone-contrib jar; run `./gradlew generatePicnicAggregation` to regenerate.", PICNIC_YML)
           .isEqualTo(expected);
     }
+
+    @Test
+    void fastAggregateWithinBudget() {
+        String yaml = GeneratePicnicAggregation.renderYaml(
+          List.of("org.test.CheapRulesRecipes", "org.test.CostlyRulesRecipes", "org.test.UnmeasuredRulesRecipes"),
+          Map.of(
+            "org.test.CheapRulesRecipes", new GeneratePicnicAggregation.RuleCost(1_000, 512),
+            "org.test.CostlyRulesRecipes", new GeneratePicnicAggregation.RuleCost(90_000, 65_536)),
+          50_000);
+        assertThat(yaml)
+          .contains("  - org.test.CheapRulesRecipes # 1000 ns/file, 512 B/file\n")
+          .contains("  - org.test.UnmeasuredRulesRecipes\n")
+          .containsOnlyOnce("name: tech.picnic.errorprone.refasterrules.AllRefasterRulesFast")
+          .endsWith("""
+            took at most 50000 ns per file on the Refaster test inputs
+              of error-prone-support, cheap enough to run on every change, leaving the full `AllRefasterRules`
+              for scheduled runs.
+            recipeList:
+              - org.test.CheapRulesRecipes
+            """);
+    }
+
+    @Test
+    void testInputOfCollection() {
+        assertThat(PicnicRuleCosts.testInputFor("tech.picnic.errorprone.refasterrules.AssertJRulesRecipes"))
+          .isEqualTo("AssertJRulesTestInput.java");
+    }
+
+    @Test
+    void noFastAggregateWithoutCatalog() {
+        assertThat(GeneratePicnicAggregation.renderYaml(List.of("org.test.CheapRulesRecipes")))
+          .doesNotContain("AllRefasterRulesFast")
+          .endsWith("  - org.test.CheapRulesRecipes\n");
+    }
 }
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 the original author or authors.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * https://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.openrewrite.recipe.picnic.internal;
+
+import org.jspecify.annotations.NullMarked;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.java.internal.parser.TypeTable;
+import org.openrewrite.java.internal.parser.TypeTableIndex;
+import org.openrewrite.recipe.internal.BestOfRuns;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+
+/// Measures what each Picnic `*RulesRecipes` collection costs per file, and writes the cost catalog from which
+/// `GeneratePicnicAggregation` renders `AllRefasterRulesFast`.
+///
+/// The corpus is the Refaster test inputs of error-prone-support, in which every rule of a collection matches
+/// its `*RulesTestInput.java`. Each collection runs over all of them, so it is measured on the input it rewrites
+/// as well as on the many that only use other libraries, on the same files as every other collection. A
+/// collection without a test input is left out of the catalog, and so out of `AllRefasterRulesFast`, as nothing
+/// in the corpus is known to exercise it.
+///
+/// The absolute numbers depend on the machine; what matters is how the collections rank against each other.
+@NullMarked
+public class PicnicRuleCosts {
+
+    private static final String TEST_INPUT_SUFFIX = "TestInput.java";
+
+    private static final int WARMUP_RUNS = 2;
+    private static final int MEASURED_RUNS = 3;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.out.println("Usage: java PicnicRuleCosts <path to cost catalog> <path to Refaster test inputs>");
+            System.out.println("The test inputs are in error-prone-contrib/src/test/resources/tech/picnic/errorprone/refasterrules");
+            System.out.println("of an error-prone-support checkout at the release of the error-prone-contrib dependency.");
+            return;
+        }
+
+        Path catalog = Path.of(args[0]);
+        Path testInputs = Path.of(args[1]);
+        List<Path> javaFiles;
+        try (Stream<Path> files = Files.list(testInputs)) {
+            javaFiles = files.filter(p -> p.getFileName().toString().endsWith(TEST_INPUT_SUFFIX)).sorted().collect(toList());
+        }
+        if (javaFiles.isEmpty()) {
+            throw new IllegalStateException("No *" + TEST_INPUT_SUFFIX + " files found in " + testInputs.toAbsolutePath());
+        }
+
+        // One parser for all inputs, given every artifact that any of them imports
+        TypeTableIndex index = TypeTableIndex.read(List.of(
+          Path.of("src", "main", "resources").resolve(TypeTable.DEFAULT_RESOURCE_PATH),
+          Path.of("src", "test", "resources").resolve(TypeTable.DEFAULT_RESOURCE_PATH)));
+        Set<String> classpath = new TreeSet<>();
+        for (Path javaFile : javaFiles) {
+            classpath.addAll(index.classpathResourcesImportedBy(Files.readString(javaFile)));
+        }
+        ExecutionContext ctx = new InMemoryExecutionContext(t -> System.err.println("Error: " + t.getMessage()));
+        List<SourceFile> sources = JavaParser.fromJavaVersion()
+          .classpathFromResources(ctx, classpath.toArray(new String[0]))
+          .build()
+          .parse(javaFiles, testInputs, ctx)
+          .collect(toList());
+
+        StringBuilder tsv = new StringBuilder();
+        tsv.append("# This file is generated by running `./gradlew benchmarkPicnicRules`, on the ")
+          .append(sources.size()).append(" Refaster test inputs of error-prone-support\n");
+        tsv.append("recipe\tnsPerFile\tbytesPerFile\n");
+        for (String recipeName : GeneratePicnicAggregation.findRulesRecipesOnClasspath()) {
+            String testInput = testInputFor(recipeName);
+            if (!Files.exists(testInputs.resolve(testInput))) {
+                System.out.printf("%s: not measured, as there is no %s%n", recipeName, testInput);
+                continue;
+            }
+            Recipe recipe = (Recipe) Class.forName(recipeName).getDeclaredConstructor().newInstance();
+            GeneratePicnicAggregation.RuleCost cost = measure(recipe, sources);
+            System.out.printf("%s: %d ns/file, %d B/file%n", recipeName, cost.nanosPerFile(), cost.bytesPerFile());
+            tsv.append(recipeName).append('\t')
+              .append(cost.nanosPerFile()).append('\t')
+              .append(cost.bytesPerFile()).append('\n');
+        }
+
+        Files.writeString(catalog, tsv);
+        System.out.printf("Wrote cost catalog to %s%n", catalog.toAbsolutePath());
+    }
+
+    /// The test input of a collection, as in `AssertJRulesTestInput.java` for `AssertJRulesRecipes`
+    static String testInputFor(String recipeName) {
+        String simpleName = recipeName.substring(recipeName.lastIndexOf('.') + 1);
+        return simpleName.substring(0, simpleName.length() - "Recipes".length()) + TEST_INPUT_SUFFIX;
+    }
+
+    private static GeneratePicnicAggregation.RuleCost measure(Recipe recipe, List<SourceFile> sources) {
+        BestOfRuns.Cost cost = BestOfRuns.measure(WARMUP_RUNS, MEASURED_RUNS,
+          () -> recipe.run(new InMemoryLargeSourceSet(sources), new InMemoryExecutionContext()));
+        return new GeneratePicnicAggregation.RuleCost(cost.nanos() / sources.size(), cost.allocatedBytes() / sources.size());
+    }
+}
@@ -24,7 +24,7 @@ import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.*;
 import java.util.function.BiPredicate;
-import java.util.regex.MatchResult;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import static java.util.Comparator.comparing;
@@ -87,12 +87,17 @@ public class AggregateQuarkusUpdates {
     static Map<Version, List<String>> recipesDefinedInQuarkusRepo(Path quarkusRecipesDirectory) throws IOException {
         Set<Path> recipesFiles = Files.find(quarkusRecipesDirectory, 3, yamlFileFilter).collect(toSet());
         Map<Version, List<String>> sortedByVersion = new HashMap<>();
+        Map<Version, Set<String>> referencedByVersion = new HashMap<>();
         for (Path recipe : recipesFiles) {
             var version = Version.parse(recipe.getFileName().toString());
             var recipeNames = extractRecipeNames(recipe);
             sortedByVersion.computeIfAbsent(version, v -> new ArrayList<>()).addAll(recipeNames);
+            referencedByVersion.computeIfAbsent(version, v -> new HashSet<>()).addAll(extractReferencedRecipeNames(recipe));
         }
 
+        // A recipe already listed by another recipe of the same version would otherwise run once more on its own.
+        // Only recipes without preconditions count, as one that has them only runs what it lists when they pass.
+        sortedByVersion.forEach((version, recipeNames) -> recipeNames.removeIf(referencedByVersion.get(version)::contains));
         return sortedByVersion;
     }
 
@@ -130,11 +135,9 @@ public class AggregateQuarkusUpdates {
 
     /// Parse the defined recipe names from a given file using `type: specs.openrewrite.org/v1beta/recipe\nname: ([\.\w]*)``
     static List<String> extractRecipeNames(Path file) {
-        Pattern compile = Pattern.compile("type: specs.openrewrite.org/v1beta/recipe\\nname: ([.\\w]*)");
         try {
             List<String> recipeNames = new ArrayList<>();
-            for (MatchResult recipeNamesResults : compile.matcher(Files.readString(file)).results().toList()) {
-                String recipeName = recipeNamesResults.group(1);
+            for (String recipeName : definedRecipeNames(Files.readString(file))) {
                 if ("io.quarkus.updates.minio.minio38.UpdateProperties".equals(recipeName)) {
                     continue;
                 }
@@ -146,7 +149,78 @@ public class AggregateQuarkusUpdates {
         }
     }
 
-    record Version(int major, int minor, Integer patch) implements Comparable<Version> {
+    static Set<String> extractReferencedRecipeNames(Path file) {
+        try {
+            return ungatedReferencedRecipeNames(Files.readString(file));
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static final Pattern RECIPE_DEFINITION = Pattern.compile("type: specs.openrewrite.org/v1beta/recipe\\nname: ([.\\w]*)");
+    private static final Pattern RECIPE_LIST_ENTRY = Pattern.compile("(\\s*)-\\s+([.\\w]+):?\\s*");
+
+    /// The names of the recipes defined in a recipe descriptor, in order of definition
+    public static List<String> definedRecipeNames(String yaml) {
+        return RECIPE_DEFINITION.matcher(yaml).results().map(result -> result.group(1)).toList();
+    }
+
+    /// The names listed as `recipeList` entries in a recipe descriptor. Entries of other lists, such as
+    /// `preconditions`, do not count, and neither do list values nested inside the options of an entry.
+    public static Set<String> referencedRecipeNames(String yaml) {
+        return referencedRecipeNames(yaml, false);
+    }
+
+    /// The names listed as `recipeList` entries of the recipes in a recipe descriptor that have no
+    /// `preconditions`, and so always run what they list.
+    public static Set<String> ungatedReferencedRecipeNames(String yaml) {
+        return referencedRecipeNames(yaml, true);
+    }
+
+    private static Set<String> referencedRecipeNames(String yaml, boolean ungatedOnly) {
+        Set<String> referenced = new HashSet<>();
+        Set<String> referencedByRecipe = new HashSet<>();
+        boolean gated = false;
+        boolean inRecipeList = false;
+        int entryIndent = -1;
+        for (String line : yaml.split("\\R")) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            int indent = line.indexOf(trimmed);
+            if (indent == 0 && trimmed.startsWith("---")) {
+                if (!ungatedOnly || !gated) {
+                    referenced.addAll(referencedByRecipe);
+                }
+                referencedByRecipe.clear();
+                gated = false;
+            }
+            // A top-level key, or a document separator, ends the list before it
+            if (indent == 0 && !trimmed.startsWith("- ")) {
+                gated |= trimmed.startsWith("preconditions:");
+                inRecipeList = trimmed.startsWith("recipeList:");
+                entryIndent = -1;
+                continue;
+            }
+            if (!inRecipeList || !trimmed.startsWith("- ")) {
+                continue;
+            }
+            if (entryIndent == -1) {
+                entryIndent = indent;
+            }
+            Matcher entry = RECIPE_LIST_ENTRY.matcher(line);
+            if (indent == entryIndent && entry.matches()) {
+                referencedByRecipe.add(entry.group(2));
+            }
+        }
+        if (!ungatedOnly || !gated) {
+            referenced.addAll(referencedByRecipe);
+        }
+        return referenced;
+    }
+
+    public record Version(int major, int minor, Integer patch) implements Comparable<Version> {
         /**
          * The recipe name of a Quarkus update recipe contains the target version.
          */
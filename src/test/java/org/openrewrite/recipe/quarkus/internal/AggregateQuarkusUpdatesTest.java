@@ -17,6 +17,7 @@ package org.openrewrite.recipe.quarkus.internal;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -80,6 +81,96 @@ class AggregateQuarkusUpdatesTest {
               new AggregateQuarkusUpdates.Version(3, 26, 0), List.of("io.quarkus.updates.camel.camel414.CamelQuarkusMigrationRecipe")));
     }
 
+    @Test
+    void skipRecipesListedByAnotherRecipeOfTheSameVersion(@TempDir Path recipesDir) throws Exception {
+        //language=YAML
+        Files.writeString(recipesDir.resolve("3.0.alpha1.yaml"), """
+          ---
+          type: specs.openrewrite.org/v1beta/recipe
+          name: org.test.JavaxAnnotationMigrationToJakartaAnnotation
+          recipeList:
+            - org.test.ChangeJavaxAnnotationToJakarta
+          ---
+          type: specs.openrewrite.org/v1beta/recipe
+          name: org.test.ChangeJavaxAnnotationToJakarta
+          recipeList:
+            - org.test.JavaxAnnotationPackageToJakarta
+          ---
+          type: specs.openrewrite.org/v1beta/recipe
+          name: org.test.JavaxAnnotationPackageToJakarta
+          recipeList:
+            - org.openrewrite.java.ChangePackage:
+                oldPackageName: javax.annotation
+                newPackageName: jakarta.annotation
+          """);
+        Path extension = Files.createDirectories(recipesDir.resolve("io.quarkiverse.test"));
+        //language=YAML
+        Files.writeString(extension.resolve("3.0.yaml"), """
+          ---
+          type: specs.openrewrite.org/v1beta/recipe
+          name: org.test.Extension
+          recipeList:
+            - org.test.JavaxAnnotationPackageToJakarta
+          """);
+
+        Map<AggregateQuarkusUpdates.Version, List<String>> recipes = recipesDefinedInQuarkusRepo(recipesDir);
+        assertThat(recipes).containsOnlyKeys(new AggregateQuarkusUpdates.Version(3, 0, 0));
+        assertThat(recipes.get(new AggregateQuarkusUpdates.Version(3, 0, 0)))
+          .containsExactlyInAnyOrder("org.test.JavaxAnnotationMigrationToJakartaAnnotation", "org.test.Extension");
+    }
+
+    @Test
+    void keepRecipesOnlyUsedAsPrecondition(@TempDir Path recipesDir) throws Exception {
+        //language=YAML
+        Files.writeString(recipesDir.resolve("3.1.yaml"), """
+          ---
+          type: specs.openrewrite.org/v1beta/recipe
+          name: org.test.UsesHibernate
+          recipeList:
+            - org.openrewrite.java.search.FindTypes:
+                fullyQualifiedTypeName: org.hibernate.Session
+          ---
+          type: specs.openrewrite.org/v1beta/recipe
+          name: org.test.MigrateHibernate
+          preconditions:
+            - org.test.UsesHibernate
+          recipeList:
+            - org.openrewrite.java.ChangePackage:
+                oldPackageName: org.hibernate.annotations
+                newPackageName: org.hibernate.annotations.v6
+          """);
+
+        Map<AggregateQuarkusUpdates.Version, List<String>> recipes = recipesDefinedInQuarkusRepo(recipesDir);
+        assertThat(recipes.get(new AggregateQuarkusUpdates.Version(3, 1, 0)))
+          .containsExactlyInAnyOrder("org.test.UsesHibernate", "org.test.MigrateHibernate");
+    }
+
+    @Test
+    void keepRecipesListedByGatedComposite(@TempDir Path recipesDir) throws Exception {
+        //language=YAML
+        Files.writeString(recipesDir.resolve("3.2.yaml"), """
+          ---
+          type: specs.openrewrite.org/v1beta/recipe
+          name: org.test.MigrateHibernateWhenUsed
+          preconditions:
+            - org.openrewrite.java.search.FindTypes:
+                fullyQualifiedTypeName: org.hibernate.Session
+          recipeList:
+            - org.test.MigrateHibernateAnnotations
+          ---
+          type: specs.openrewrite.org/v1beta/recipe
+          name: org.test.MigrateHibernateAnnotations
+          recipeList:
+            - org.openrewrite.java.ChangePackage:
+                oldPackageName: org.hibernate.annotations
+                newPackageName: org.hibernate.annotations.v6
+          """);
+
+        Map<AggregateQuarkusUpdates.Version, List<String>> recipes = recipesDefinedInQuarkusRepo(recipesDir);
+        assertThat(recipes.get(new AggregateQuarkusUpdates.Version(3, 2, 0)))
+          .containsExactlyInAnyOrder("org.test.MigrateHibernateWhenUsed", "org.test.MigrateHibernateAnnotations");
+    }
+
     @Nested
     class CreateRecipe {
         @Test